@@ -0,0 +1,73 @@
+package com.al.tobangla.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The same workloads through the library, ICU4J and java.text, one row per workload and
+ * implementation. Run with -prof gc for the allocation per conversion next to the time.
+ * Outputs are checked for equality by DifferentialTest. Ordinals are in OrdinalBenchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(Inputs.SIZE)
+@State(Scope.Thread)
+public class DifferentialBenchmark {
+
+    @Param({"tobangla", "icu", "javatext"})
+    public String impl;
+
+    private Inputs inputs;
+    private Formats formats;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        inputs = new Inputs();
+        formats = create(impl);
+    }
+
+    static Formats create(String impl) {
+        switch (impl) {
+            case "tobangla":
+                return new ToBanglaFormats();
+            case "icu":
+                return new IcuFormats();
+            case "javatext":
+                return new JavaTextFormats();
+            default:
+                throw new IllegalArgumentException("impl " + impl);
+        }
+    }
+
+    @Benchmark
+    public void digits(Blackhole blackhole) {
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            blackhole.consume(formats.digits(inputs, i));
+        }
+    }
+
+    @Benchmark
+    public void date(Blackhole blackhole) {
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            blackhole.consume(formats.date(inputs, i));
+        }
+    }
+
+    @Benchmark
+    public void amount(Blackhole blackhole) {
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            blackhole.consume(formats.amount(inputs, i));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.al.tobangla.benchmarks;
+
+import com.al.tobangla.processor.DigitScript;
+import com.al.tobangla.processor.ToBangla;
+import com.al.tobangla.vector.VectorDigits;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Digit conversion of 1 KB to 1 MB texts: the old per char switch against changeByChar and
+ * the in place bulk loops on char[], heap and direct CharBuffer, and the Vector API loop of
+ * jvm/vector on char[]. The in place rows copy the text into the buffer first, as a caller
+ * converting a fresh text would.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class DigitBulkBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    public int size;
+
+    private final ToBangla toBangla = ToBangla.getInstance();
+
+    private String text;
+    private char[] source;
+    private char[] chars;
+    private CharBuffer heapBuffer;
+    private CharBuffer directBuffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        text = Texts.statement(size);
+        source = text.toCharArray();
+        chars = new char[size];
+        heapBuffer = CharBuffer.allocate(size);
+        directBuffer = ByteBuffer.allocateDirect(size * 2).asCharBuffer();
+    }
+
+    @Benchmark
+    public String perCharSwitch() {
+        return PerCharSwitch.changeByChar(text);
+    }
+
+    @Benchmark
+    public String changeByChar() {
+        return toBangla.changeByChar(text);
+    }
+
+    @Benchmark
+    public char[] convertDigitsArray() {
+        System.arraycopy(source, 0, chars, 0, size);
+        toBangla.convertDigits(chars, 0, size);
+        return chars;
+    }
+
+    @Benchmark
+    public char[] convertDigitsVector() {
+        System.arraycopy(source, 0, chars, 0, size);
+        VectorDigits.convertDigits(DigitScript.BANGLA, chars, 0, size);
+        return chars;
+    }
+
+    @Benchmark
+    public CharBuffer convertDigitsHeapBuffer() {
+        heapBuffer.clear();
+        heapBuffer.put(source).flip();
+        toBangla.convertDigits(heapBuffer);
+        return heapBuffer;
+    }
+
+    @Benchmark
+    public CharBuffer convertDigitsDirectBuffer() {
+        directBuffer.clear();
+        directBuffer.put(source).flip();
+        toBangla.convertDigits(directBuffer);
+        return directBuffer;
+    }
+}
@@ -0,0 +1,72 @@
+package com.al.tobangla.benchmarks;
+
+import com.al.tobangla.processor.ConversionPipeline;
+import com.al.tobangla.processor.DigitScript;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The shared DigitScript loop for every script, the numbers should not depend on the script.
+ * perCharStage maps char by char through the script's stage into a StringBuilder, the shape
+ * of a per script switch, as the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class DigitScriptBenchmark {
+
+    @Param({"BANGLA", "DEVANAGARI_HINDI", "DEVANAGARI_NEPALI", "ARABIC_INDIC", "EXTENDED_ARABIC_INDIC"})
+    public DigitScript script;
+
+    @Param({"1024", "1048576"})
+    public int size;
+
+    private String text;
+    private char[] source;
+    private char[] chars;
+    private ConversionPipeline pipeline;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        text = Texts.statement(size);
+        source = text.toCharArray();
+        chars = new char[size];
+        pipeline = new ConversionPipeline.Builder().digits(script).build();
+    }
+
+    @Benchmark
+    public String perCharStage() {
+        StringBuilder converted = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            converted.append(script.getStage().map(text.charAt(i)));
+        }
+        return converted.toString();
+    }
+
+    @Benchmark
+    public String convert() {
+        return script.convert(text);
+    }
+
+    @Benchmark
+    public String pipeline() {
+        return pipeline.convert(text);
+    }
+
+    @Benchmark
+    public char[] convertDigits() {
+        System.arraycopy(source, 0, chars, 0, size);
+        script.convertDigits(chars, 0, size);
+        return chars;
+    }
+}
@@ -0,0 +1,16 @@
+package com.al.tobangla.benchmarks;
+
+/**
+ * One implementation of the workloads, each method renders input i in bangla.
+ */
+public interface Formats {
+
+    //plain number, no grouping
+    String digits(Inputs inputs, int i);
+
+    //dd/MM/yyyy in the default time zone
+    String date(Inputs inputs, int i);
+
+    //"৳ " and the amount with two decimals, no grouping
+    String amount(Inputs inputs, int i);
+}
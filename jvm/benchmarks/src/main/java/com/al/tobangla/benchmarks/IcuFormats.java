@@ -0,0 +1,56 @@
+package com.al.tobangla.benchmarks;
+
+import com.ibm.icu.text.DecimalFormat;
+import com.ibm.icu.text.DecimalFormatSymbols;
+import com.ibm.icu.text.NumberFormat;
+import com.ibm.icu.text.RuleBasedNumberFormat;
+import com.ibm.icu.text.SimpleDateFormat;
+import com.ibm.icu.util.TimeZone;
+import com.ibm.icu.util.ULocale;
+
+import java.math.BigDecimal;
+
+/**
+ * ICU4J with the bn_BD locale. ICU formats are not thread safe, one instance per thread.
+ * <p>
+ * ICU has no bangla ordinals, its only ordinal rule set for bn appends the english
+ * suffixes ("১st"), it's measured anyway as the cost of the nearest ICU path.
+ */
+public final class IcuFormats implements OrdinalFormats {
+
+    private static final ULocale BN_BD = new ULocale("bn_BD");
+
+    private final NumberFormat digits;
+    private final SimpleDateFormat date;
+    private final DecimalFormat amount;
+    private final RuleBasedNumberFormat ordinal;
+
+    public IcuFormats() {
+        digits = NumberFormat.getIntegerInstance(BN_BD);
+        digits.setGroupingUsed(false);
+        date = new SimpleDateFormat("dd/MM/yyyy", BN_BD);
+        date.setTimeZone(TimeZone.getDefault());
+        amount = new DecimalFormat("'৳ '0.00", new DecimalFormatSymbols(BN_BD));
+        ordinal = new RuleBasedNumberFormat(BN_BD, RuleBasedNumberFormat.ORDINAL);
+    }
+
+    @Override
+    public String digits(Inputs inputs, int i) {
+        return digits.format(inputs.numbers[i]);
+    }
+
+    @Override
+    public String date(Inputs inputs, int i) {
+        return date.format(inputs.millis[i]);
+    }
+
+    @Override
+    public String amount(Inputs inputs, int i) {
+        return amount.format(BigDecimal.valueOf(inputs.minorUnits[i], 2));
+    }
+
+    @Override
+    public String ordinal(Inputs inputs, int i) {
+        return ordinal.format(inputs.orders[i]);
+    }
+}
@@ -0,0 +1,38 @@
+package com.al.tobangla.benchmarks;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * The same workload for every implementation: numbers, instants, amounts and orders, both
+ * as values and as the EN-US text the library takes. Built from a fixed seed.
+ */
+public final class Inputs {
+
+    public static final int SIZE = 1024;
+
+    //2000-01-01 to 2030-01-01
+    private static final long FROM_MILLIS = 946684800000L;
+    private static final long TO_MILLIS = 1893456000000L;
+
+    final long[] numbers = new long[SIZE];
+    final String[] numberTexts = new String[SIZE];
+    final long[] millis = new long[SIZE];
+    final long[] minorUnits = new long[SIZE];
+    final String[] amountTexts = new String[SIZE];
+    final int[] orders = new int[SIZE];
+    final String[] orderTexts = new String[SIZE];
+
+    public Inputs() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            numbers[i] = random.nextInt(Integer.MAX_VALUE);
+            numberTexts[i] = Long.toString(numbers[i]);
+            millis[i] = FROM_MILLIS + (long) (random.nextDouble() * (TO_MILLIS - FROM_MILLIS));
+            minorUnits[i] = random.nextInt(100000000);
+            amountTexts[i] = String.format(Locale.US, "%d.%02d", minorUnits[i] / 100, minorUnits[i] % 100);
+            orders[i] = 1 + random.nextInt(100);
+            orderTexts[i] = Integer.toString(orders[i]);
+        }
+    }
+}
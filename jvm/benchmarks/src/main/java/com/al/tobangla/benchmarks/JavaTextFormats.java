@@ -0,0 +1,34 @@
+package com.al.tobangla.benchmarks;
+
+import com.al.tobangla.processor.BanglaLocale;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.SimpleDateFormat;
+
+/**
+ * java.text with the library's BanglaLocale symbols, bangla zero digit included. Not thread
+ * safe, one instance per thread. java.text has no ordinals, so it's left out
+ * of OrdinalBenchmark.
+ */
+public final class JavaTextFormats implements Formats {
+
+    private final DecimalFormat digits = BanglaLocale.newDecimalFormat("0");
+    private final SimpleDateFormat date = BanglaLocale.newSimpleDateFormat("dd/MM/yyyy");
+    private final DecimalFormat amount = BanglaLocale.newDecimalFormat("'৳ '0.00");
+
+    @Override
+    public String digits(Inputs inputs, int i) {
+        return digits.format(inputs.numbers[i]);
+    }
+
+    @Override
+    public String date(Inputs inputs, int i) {
+        return date.format(inputs.millis[i]);
+    }
+
+    @Override
+    public String amount(Inputs inputs, int i) {
+        return amount.format(BigDecimal.valueOf(inputs.minorUnits[i], 2));
+    }
+}
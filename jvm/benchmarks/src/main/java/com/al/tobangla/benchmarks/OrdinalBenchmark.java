@@ -0,0 +1,56 @@
+package com.al.tobangla.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Numeric ordinals through the library and ICU4J, the implementations of DifferentialBenchmark
+ * that have them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(Inputs.SIZE)
+@State(Scope.Thread)
+public class OrdinalBenchmark {
+
+    @Param({"tobangla", "icu"})
+    public String impl;
+
+    private Inputs inputs;
+    private OrdinalFormats formats;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        inputs = new Inputs();
+        formats = create(impl);
+    }
+
+    static OrdinalFormats create(String impl) {
+        switch (impl) {
+            case "tobangla":
+                return new ToBanglaFormats();
+            case "icu":
+                return new IcuFormats();
+            default:
+                throw new IllegalArgumentException("impl " + impl);
+        }
+    }
+
+    @Benchmark
+    public void ordinal(Blackhole blackhole) {
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            blackhole.consume(formats.ordinal(inputs, i));
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.al.tobangla.benchmarks;
+
+/**
+ * Implementations that also render ordinals, java.text has none.
+ */
+public interface OrdinalFormats extends Formats {
+
+    //numeric order, 1ম, 2য়...
+    String ordinal(Inputs inputs, int i);
+}
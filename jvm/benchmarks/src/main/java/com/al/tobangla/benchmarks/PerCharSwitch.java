@@ -0,0 +1,48 @@
+package com.al.tobangla.benchmarks;
+
+/**
+ * The digit conversion as ToBangla did it before the bulk loop, one switch and one append
+ * per char. Kept as the baseline of DigitBulkBenchmark.
+ */
+final class PerCharSwitch {
+
+    private PerCharSwitch() {
+    }
+
+    static String changeByChar(final String date) {
+        StringBuilder formatted = new StringBuilder();
+        for (int i = 0; i < date.length(); i++) {
+            //convert each numeric character to bangla
+            formatted.append(numberConverter(date.charAt(i)));
+        }
+        return formatted.toString();
+    }
+
+    private static char numberConverter(final char en) {
+
+        switch (en) {
+            case '1':
+                return '১';
+            case '2':
+                return '২';
+            case '3':
+                return '৩';
+            case '4':
+                return '৪';
+            case '5':
+                return '৫';
+            case '6':
+                return '৬';
+            case '7':
+                return '৭';
+            case '8':
+                return '৮';
+            case '9':
+                return '৯';
+            case '0':
+                return '০';
+            default:
+                return en;
+        }
+    }
+}
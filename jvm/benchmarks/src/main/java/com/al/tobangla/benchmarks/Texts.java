@@ -0,0 +1,33 @@
+package com.al.tobangla.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Long statement like texts for the bulk digit benchmarks, built from a fixed seed.
+ */
+final class Texts {
+
+    private static final String[] WORDS = {"Balance", "Txn", "on", "Ref", "BDT", "Dr", "Cr", "/", "-", ":"};
+
+    private Texts() {
+    }
+
+    /*
+    * @param number of chars
+    * @return words and numbers, about half of the chars digits
+    */
+    static String statement(int size) {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder(size + 16);
+        while (text.length() < size) {
+            if (random.nextBoolean()) {
+                text.append(WORDS[random.nextInt(WORDS.length)]);
+            } else {
+                text.append(random.nextInt(Integer.MAX_VALUE));
+            }
+            text.append(random.nextInt(8) == 0 ? '\n' : ' ');
+        }
+        text.setLength(size);
+        return text.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package com.al.tobangla.benchmarks;
+
+import com.al.tobangla.processor.ConversionPipeline;
+import com.al.tobangla.processor.ConversionPipelines;
+import com.al.tobangla.processor.ToBangla;
+import com.al.tobangla.utils.ProcessType;
+
+/**
+ * The library, fed the EN-US texts the way apps call it.
+ */
+public final class ToBanglaFormats implements OrdinalFormats {
+
+    private final ToBangla toBangla = ToBangla.getInstance();
+    private final ConversionPipeline amount = ConversionPipelines.get(ProcessType.AMOUNT);
+
+    @Override
+    public String digits(Inputs inputs, int i) {
+        return toBangla.getNumber(inputs.numberTexts[i]);
+    }
+
+    @Override
+    public String date(Inputs inputs, int i) {
+        return toBangla.getDate(inputs.millis[i]);
+    }
+
+    @Override
+    public String amount(Inputs inputs, int i) {
+        return amount.convert(inputs.amountTexts[i]);
+    }
+
+    @Override
+    public String ordinal(Inputs inputs, int i) {
+        return toBangla.getNumericOrderIndicator(inputs.orderTexts[i]);
+    }
+}
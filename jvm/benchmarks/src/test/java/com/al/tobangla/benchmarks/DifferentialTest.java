@@ -0,0 +1,93 @@
+package com.al.tobangla.benchmarks;
+
+import com.al.tobangla.processor.ToBangla;
+import com.ibm.icu.text.SimpleDateFormat;
+import com.ibm.icu.util.ULocale;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Every implementation gives the same text for the workloads DifferentialBenchmark times,
+ * so the numbers compare like for like. Known differences are pinned below, a failure there
+ * means the baseline changed and may be worth delegating to.
+ */
+public class DifferentialTest {
+
+    private final Inputs inputs = new Inputs();
+    private final OrdinalFormats toBangla = new ToBanglaFormats();
+    private final OrdinalFormats icu = new IcuFormats();
+    private final Formats javaText = new JavaTextFormats();
+
+    @Test
+    public void digitsMatch() {
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            String expected = toBangla.digits(inputs, i);
+            assertEquals(expected, icu.digits(inputs, i));
+            assertEquals(expected, javaText.digits(inputs, i));
+        }
+    }
+
+    @Test
+    public void datesMatch() {
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            String expected = toBangla.date(inputs, i);
+            assertEquals(expected, icu.date(inputs, i));
+            assertEquals(expected, javaText.date(inputs, i));
+        }
+    }
+
+    @Test
+    public void amountsMatch() {
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            String expected = toBangla.amount(inputs, i);
+            assertEquals(expected, icu.amount(inputs, i));
+            assertEquals(expected, javaText.amount(inputs, i));
+        }
+    }
+
+    @Test
+    public void icuOrdinalsUseEnglishSuffixes() {
+        //ICU's only ordinal rule set for bn is %digits-ordinal with the english suffixes
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            int order = inputs.orders[i];
+            String digits = ToBangla.getInstance().getNumber(Integer.toString(order));
+            String ordinal = icu.ordinal(inputs, i);
+            assertTrue(ordinal, ordinal.startsWith(digits) && ordinal.substring(digits.length()).matches("[a-z]{2}"));
+        }
+        assertEquals("১ম", toBangla.ordinal(inputs, indexOf(1)));
+    }
+
+    @Test
+    public void monthSpellingsDiffer() {
+        //ICU spells two months differently, everything else is the same
+        SimpleDateFormat month = new SimpleDateFormat("MMMM", new ULocale("bn_BD"));
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(2018, Calendar.JANUARY, 1);
+        for (int i = 1; i <= 12; i++) {
+            calendar.set(Calendar.MONTH, i - 1);
+            String expected = ToBangla.getInstance().getMonthByNumber(Integer.toString(i));
+            if (i == 2) {
+                expected = "ফেব্রুয়ারী";
+            } else if (i == 8) {
+                expected = "আগস্ট";
+            }
+            assertEquals(expected, month.format(calendar.getTime()));
+        }
+        assertEquals("ফেব্রুয়ারি", ToBangla.getInstance().getMonthByNumber("2"));
+        assertEquals("অগাস্ট", ToBangla.getInstance().getMonthByNumber("8"));
+    }
+
+    private int indexOf(int order) {
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            if (inputs.orders[i] == order) {
+                return i;
+            }
+        }
+        throw new AssertionError("no order " + order);
+    }
+}
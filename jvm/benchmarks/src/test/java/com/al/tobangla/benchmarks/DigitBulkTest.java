@@ -0,0 +1,46 @@
+package com.al.tobangla.benchmarks;
+
+import com.al.tobangla.processor.DigitScript;
+import com.al.tobangla.processor.ToBangla;
+import com.al.tobangla.vector.VectorDigits;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The rows of DigitBulkBenchmark all produce the same text.
+ */
+public class DigitBulkTest {
+
+    @Test
+    public void bulkMatchesPerCharSwitch() {
+        ToBangla toBangla = ToBangla.getInstance();
+        for (int size : new int[]{1, 1024, 65536}) {
+            String text = Texts.statement(size);
+            String expected = PerCharSwitch.changeByChar(text);
+
+            assertEquals(expected, toBangla.changeByChar(text));
+
+            char[] chars = text.toCharArray();
+            toBangla.convertDigits(chars, 0, chars.length);
+            assertEquals(expected, new String(chars));
+
+            chars = text.toCharArray();
+            VectorDigits.convertDigits(DigitScript.BANGLA, chars, 0, chars.length);
+            assertEquals(expected, new String(chars));
+
+            CharBuffer heapBuffer = CharBuffer.wrap(text.toCharArray());
+            toBangla.convertDigits(heapBuffer);
+            assertEquals(expected, heapBuffer.toString());
+
+            CharBuffer directBuffer = ByteBuffer.allocateDirect(size * 2).asCharBuffer();
+            directBuffer.put(text).flip();
+            toBangla.convertDigits(directBuffer);
+            assertEquals(expected, directBuffer.toString());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.al.tobangla.benchmarks;
+
+import com.al.tobangla.processor.ConversionPipeline;
+import com.al.tobangla.processor.DigitScript;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The rows of DigitScriptBenchmark all produce the same text for every script.
+ */
+public class DigitScriptTest {
+
+    @Test
+    public void everyPathMatchesForEveryScript() {
+        String text = Texts.statement(4096);
+        for (DigitScript script : DigitScript.values()) {
+            StringBuilder expected = new StringBuilder();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                expected.append(c >= '0' && c <= '9' ? (char) (script.getZeroDigit() + c - '0') : c);
+            }
+
+            assertEquals(script.name(), expected.toString(), script.convert(text));
+            assertEquals(script.name(), expected.toString(), new ConversionPipeline.Builder().digits(script).build().convert(text));
+
+            char[] chars = text.toCharArray();
+            script.convertDigits(chars, 0, chars.length);
+            assertEquals(script.name(), expected.toString(), new String(chars));
+        }
+    }
+}
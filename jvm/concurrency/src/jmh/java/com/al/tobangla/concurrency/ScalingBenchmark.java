@@ -0,0 +1,71 @@
+package com.al.tobangla.concurrency;
+
+import com.al.tobangla.processor.ConversionPipeline;
+import com.al.tobangla.processor.ConversionPipelines;
+import com.al.tobangla.processor.RelativeTimeFormatter;
+import com.al.tobangla.processor.ToBangla;
+import com.al.tobangla.utils.ProcessType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion APIs called on shared instances, the way request threads call them. Run by
+ * ScalingRunner at growing thread counts, throughput per thread should stay flat; a drop
+ * points at contention or false sharing on the shared state.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ScalingBenchmark {
+
+    //2018-01-21T12:00:00Z
+    private static final long MILLIS = 1516536000000L;
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+
+    private final ToBangla toBangla = ToBangla.getInstance();
+    private final ConversionPipeline amount = ConversionPipelines.get(ProcessType.AMOUNT);
+    private final RelativeTimeFormatter relativeTime = new RelativeTimeFormatter();
+
+    /**
+     * Per thread counter, so threads walk their own inputs.
+     */
+    @State(Scope.Thread)
+    public static class Counter {
+        long value;
+    }
+
+    @Benchmark
+    public String getInstanceNumber() {
+        return ToBangla.getInstance().getNumber("1234567");
+    }
+
+    @Benchmark
+    public String amount() {
+        return amount.convert("1234.50");
+    }
+
+    //every thread on the same day, the cached day is only read
+    @Benchmark
+    public String dateSameDay(Counter counter) {
+        return toBangla.getDate(MILLIS + counter.value++ % 1000);
+    }
+
+    //threads walk over days, the cached day is replaced all the time
+    @Benchmark
+    public String dateChangingDay(Counter counter) {
+        return toBangla.getDate(MILLIS + counter.value++ % 64 * DAY);
+    }
+
+    //bucket texts, filled once and read after
+    @Benchmark
+    public String relativeTime(Counter counter) {
+        return relativeTime.format(MILLIS - counter.value++ % 3600 * 1000L, MILLIS);
+    }
+}
@@ -0,0 +1,75 @@
+package com.al.tobangla.concurrency;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs ScalingBenchmark at 1, 2, 4... threads and prints the throughput per thread of each
+ * benchmark next to each other.
+ * <pre>
+ * gradle :concurrency:scaling -PscalingArgs='16'
+ * </pre>
+ * The only argument is the highest thread count, the number of cores by default.
+ */
+public final class ScalingRunner {
+
+    private ScalingRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(maxThreads);
+
+        //benchmark -> ops/us per thread, in thread count order
+        Map<String, List<Double>> table = new TreeMap<>();
+        for (int threads : threadCounts) {
+            Options options = new OptionsBuilder()
+                    .include(ScalingBenchmark.class.getName())
+                    .threads(threads)
+                    .forks(1)
+                    .warmupIterations(3)
+                    .warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(5)
+                    .measurementTime(TimeValue.seconds(1))
+                    .build();
+            for (RunResult result : new Runner(options).run()) {
+                String name = result.getParams().getBenchmark();
+                name = name.substring(name.lastIndexOf('.') + 1);
+                List<Double> row = table.get(name);
+                if (row == null) {
+                    row = new ArrayList<>();
+                    table.put(name, row);
+                }
+                row.add(result.getPrimaryResult().getScore() / threads);
+            }
+        }
+
+        StringBuilder header = new StringBuilder(String.format("%-20s", "ops/us per thread"));
+        for (int threads : threadCounts) {
+            header.append(String.format("%12s", threads + " thr"));
+        }
+        System.out.println();
+        System.out.println(header);
+        for (Map.Entry<String, List<Double>> row : table.entrySet()) {
+            StringBuilder line = new StringBuilder(String.format("%-20s", row.getKey()));
+            for (double score : row.getValue()) {
+                line.append(String.format("%12.2f", score));
+            }
+            System.out.println(line);
+        }
+    }
+}
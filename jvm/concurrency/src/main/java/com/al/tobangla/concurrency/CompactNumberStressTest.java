@@ -0,0 +1,57 @@
+package com.al.tobangla.concurrency;
+
+import com.al.tobangla.processor.CompactNumberFormatter;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+import java.math.RoundingMode;
+
+/**
+ * Two threads render into a fresh CompactNumberFormatter's cache at once, each must read
+ * its own text, never a null, the other thread's or a half built one.
+ */
+public class CompactNumberStressTest {
+
+    @JCStressTest
+    @Outcome(id = "true, true", expect = Expect.ACCEPTABLE, desc = "Both threads read the cached text")
+    @Outcome(expect = Expect.FORBIDDEN, desc = "A thread read a null or wrong text")
+    @State
+    public static class SameValue {
+
+        private final CompactNumberFormatter formatter = new CompactNumberFormatter(1, RoundingMode.HALF_UP);
+
+        @Actor
+        public void actor1(ZZ_Result result) {
+            result.r1 = "১.৫ হাজার".equals(formatter.format(1500));
+        }
+
+        @Actor
+        public void actor2(ZZ_Result result) {
+            result.r2 = "১.৫ হাজার".equals(formatter.format("1,500"));
+        }
+    }
+
+    @JCStressTest
+    @Outcome(id = "true, true", expect = Expect.ACCEPTABLE, desc = "Both threads got their own text")
+    @Outcome(expect = Expect.FORBIDDEN, desc = "A thread got the other text")
+    @State
+    public static class DifferentValues {
+
+        private final CompactNumberFormatter formatter = new CompactNumberFormatter(1, RoundingMode.HALF_UP);
+
+        @Actor
+        public void actor1(ZZ_Result result) {
+            result.r1 = "৩.৫ লাখ".equals(formatter.format(350000));
+        }
+
+        @Actor
+        public void actor2(ZZ_Result result) {
+            result.r2 = "২ কোটি".equals(formatter.format(20000000));
+        }
+    }
+}
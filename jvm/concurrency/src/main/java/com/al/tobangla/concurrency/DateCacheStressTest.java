@@ -0,0 +1,38 @@
+package com.al.tobangla.concurrency;
+
+import com.al.tobangla.processor.ToBangla;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+/**
+ * Threads on different days replace each other's cached day in ToBangla.getDate, each
+ * must still get its own date, never the other thread's or a half built one.
+ */
+@JCStressTest
+@Outcome(id = "true, true", expect = Expect.ACCEPTABLE, desc = "Both threads got their own date")
+@Outcome(expect = Expect.FORBIDDEN, desc = "A thread got the other day or a broken cache entry")
+@State
+public class DateCacheStressTest {
+
+    private static final long DAY_1 = Expected.MILLIS;
+    private static final long DAY_2 = Expected.MILLIS + 24 * 60 * 60 * 1000L;
+    private static final String DATE_1 = Expected.date(DAY_1);
+    private static final String DATE_2 = Expected.date(DAY_2);
+
+    private final ToBangla toBangla = ToBangla.getInstance();
+
+    @Actor
+    public void actor1(ZZ_Result result) {
+        result.r1 = DATE_1.equals(toBangla.getDate(DAY_1));
+    }
+
+    @Actor
+    public void actor2(ZZ_Result result) {
+        result.r2 = DATE_2.equals(toBangla.getDateTime(DAY_2).substring(0, DATE_2.length()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.al.tobangla.concurrency;
+
+import com.al.tobangla.processor.BanglaLocale;
+
+/**
+ * Expected texts, rendered independently of the caches under test.
+ */
+final class Expected {
+
+    //2018-01-21T12:00:00Z
+    static final long MILLIS = 1516536000000L;
+
+    private Expected() {
+    }
+
+    /*
+    * @return dd/MM/yyyy in bangla in the default time zone
+    */
+    static String date(long epochMillis) {
+        return BanglaLocale.newSimpleDateFormat("dd/MM/yyyy").format(epochMillis);
+    }
+}
@@ -0,0 +1,64 @@
+package com.al.tobangla.concurrency;
+
+import com.al.tobangla.processor.RelativeTimeFormatter;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+import java.util.TimeZone;
+
+/**
+ * Two threads fill a fresh RelativeTimeFormatter's bucket and date caches at once, the
+ * racy publication of the cached strings must never show a null or a wrong text.
+ */
+public class RelativeTimeStressTest {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+    private static final long NOW = Expected.MILLIS;
+    private static final long FIVE_MINUTES_AGO = NOW - 5 * 60 * 1000L;
+    //more than a week back, formatted as the date
+    private static final long DAY_1 = NOW - 10 * 24 * 60 * 60 * 1000L;
+    private static final long DAY_2 = NOW - 11 * 24 * 60 * 60 * 1000L;
+
+    @JCStressTest
+    @Outcome(id = "true, true", expect = Expect.ACCEPTABLE, desc = "Both threads read the bucket text")
+    @Outcome(expect = Expect.FORBIDDEN, desc = "A thread read a null or wrong bucket text")
+    @State
+    public static class SameBucket {
+
+        private final RelativeTimeFormatter formatter = new RelativeTimeFormatter(UTC);
+
+        @Actor
+        public void actor1(ZZ_Result result) {
+            result.r1 = "৫ মিনিট আগে".equals(formatter.format(FIVE_MINUTES_AGO, NOW));
+        }
+
+        @Actor
+        public void actor2(ZZ_Result result) {
+            result.r2 = "৫ মিনিট আগে".equals(formatter.format(FIVE_MINUTES_AGO, NOW));
+        }
+    }
+
+    @JCStressTest
+    @Outcome(id = "true, true", expect = Expect.ACCEPTABLE, desc = "Both threads got their own date")
+    @Outcome(expect = Expect.FORBIDDEN, desc = "A thread got the other date")
+    @State
+    public static class DifferentDates {
+
+        private final RelativeTimeFormatter formatter = new RelativeTimeFormatter(UTC);
+
+        @Actor
+        public void actor1(ZZ_Result result) {
+            result.r1 = "১১ই জানুয়ারী, ২০১৮".equals(formatter.format(DAY_1, NOW));
+        }
+
+        @Actor
+        public void actor2(ZZ_Result result) {
+            result.r2 = "১০ই জানুয়ারী, ২০১৮".equals(formatter.format(DAY_2, NOW));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.al.tobangla.spi;
+
+import com.al.tobangla.processor.BanglaLocale;
+
+import java.text.DateFormatSymbols;
+import java.text.spi.DateFormatSymbolsProvider;
+import java.util.Locale;
+
+/**
+ * BanglaLocale's month, weekday and am/pm names for bn-BD, so DateFormatSymbols.getInstance
+ * and SimpleDateFormat spell them like ToBangla. Loaded when java.locale.providers lists
+ * SPI, e.g. -Djava.locale.providers=SPI,CLDR.
+ */
+public final class BanglaDateFormatSymbolsProvider extends DateFormatSymbolsProvider {
+
+    @Override
+    public DateFormatSymbols getInstance(Locale locale) {
+        BanglaProviders.check(locale);
+        return BanglaLocale.getDateFormatSymbols();
+    }
+
+    @Override
+    public Locale[] getAvailableLocales() {
+        return BanglaProviders.locales();
+    }
+}
@@ -0,0 +1,26 @@
+package com.al.tobangla.spi;
+
+import com.al.tobangla.processor.BanglaLocale;
+
+import java.text.DecimalFormatSymbols;
+import java.text.spi.DecimalFormatSymbolsProvider;
+import java.util.Locale;
+
+/**
+ * BanglaLocale's decimal symbols for bn-BD, so DecimalFormatSymbols.getInstance and
+ * NumberFormat.getInstance write bangla digits. Loaded when java.locale.providers
+ * lists SPI, e.g. -Djava.locale.providers=SPI,CLDR.
+ */
+public final class BanglaDecimalFormatSymbolsProvider extends DecimalFormatSymbolsProvider {
+
+    @Override
+    public DecimalFormatSymbols getInstance(Locale locale) {
+        BanglaProviders.check(locale);
+        return BanglaLocale.getDecimalFormatSymbols();
+    }
+
+    @Override
+    public Locale[] getAvailableLocales() {
+        return BanglaProviders.locales();
+    }
+}
@@ -0,0 +1,32 @@
+package com.al.tobangla.spi;
+
+import com.al.tobangla.processor.BanglaLocale;
+
+import java.util.Locale;
+
+/**
+ * Locale checks shared by the providers.
+ */
+final class BanglaProviders {
+
+    private BanglaProviders() {
+    }
+
+    static Locale[] locales() {
+        return new Locale[]{BanglaLocale.BN_BD};
+    }
+
+    /*
+    * @throws NullPointerException for null, IllegalArgumentException for any other locale
+    * than bn-BD, as the provider contract asks
+    */
+    static void check(Locale locale) {
+        if (locale == null) {
+            throw new NullPointerException("locale");
+        }
+        if (!BanglaLocale.BN_BD.getLanguage().equals(locale.getLanguage())
+                || !BanglaLocale.BN_BD.getCountry().equals(locale.getCountry())) {
+            throw new IllegalArgumentException("Unsupported locale " + locale);
+        }
+    }
+}
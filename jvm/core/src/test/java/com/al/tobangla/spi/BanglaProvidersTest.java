@@ -0,0 +1,58 @@
+package com.al.tobangla.spi;
+
+import com.al.tobangla.processor.BanglaLocale;
+import com.al.tobangla.processor.ToBangla;
+
+import org.junit.Test;
+
+import java.text.DateFormatSymbols;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Runs with -Djava.locale.providers=SPI,CLDR, set by the build.
+ */
+public class BanglaProvidersTest {
+
+    @Test
+    public void decimalSymbolsComeFromTheProvider() {
+        assertEquals('০', DecimalFormatSymbols.getInstance(BanglaLocale.BN_BD).getZeroDigit());
+
+        NumberFormat format = NumberFormat.getIntegerInstance(BanglaLocale.BN_BD);
+        format.setGroupingUsed(false);
+        assertEquals(ToBangla.getInstance().getNumber("2018"), format.format(2018));
+    }
+
+    @Test
+    public void dateSymbolsComeFromTheProvider() {
+        DateFormatSymbols symbols = DateFormatSymbols.getInstance(BanglaLocale.BN_BD);
+        assertArrayEquals(BanglaLocale.getDateFormatSymbols().getMonths(), symbols.getMonths());
+        assertArrayEquals(BanglaLocale.getDateFormatSymbols().getWeekdays(), symbols.getWeekdays());
+
+        SimpleDateFormat format = new SimpleDateFormat("MMMM EEEE", BanglaLocale.BN_BD);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        calendar.clear();
+        calendar.set(2018, Calendar.AUGUST, 19);
+        ToBangla toBangla = ToBangla.getInstance();
+        assertEquals(toBangla.getMonth("August") + " " + toBangla.getDay("Sunday"), format.format(calendar.getTime()));
+    }
+
+    @Test
+    public void otherLocalesAreLeftToTheJdk() {
+        assertEquals('0', DecimalFormatSymbols.getInstance(Locale.US).getZeroDigit());
+        assertEquals("January", DateFormatSymbols.getInstance(Locale.US).getMonths()[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void providerRejectsOtherLocales() {
+        new BanglaDecimalFormatSymbolsProvider().getInstance(Locale.US);
+    }
+}
@@ -0,0 +1,38 @@
+package com.al.tobangla.jackson;
+
+import com.al.tobangla.processor.BanglaCharWriter;
+import com.al.tobangla.processor.ToBangla;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * BigDecimal amounts with the taka sign, keeping their scale, e.g. 1234.50 as "৳ ১২৩৪.৫০".
+ * Amounts of up to 18 fraction digits whose unscaled value fits a long are written
+ * without any intermediate String, larger ones go through toPlainString.
+ */
+public class BanglaAmountSerializer extends StdSerializer<BigDecimal> {
+
+    public static final BanglaAmountSerializer INSTANCE = new BanglaAmountSerializer();
+
+    private static final int MAX_SCALE = 18;
+
+    public BanglaAmountSerializer() {
+        super(BigDecimal.class);
+    }
+
+    @Override
+    public void serialize(BigDecimal value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        BigDecimal amount = value.scale() < 0 ? value.setScale(0) : value;
+        if (amount.scale() <= MAX_SCALE && amount.unscaledValue().bitLength() < Long.SIZE) {
+            char[] buffer = CharBuffers.get();
+            int length = BanglaCharWriter.writeAmount(amount.unscaledValue().longValue(), amount.scale(), buffer, 0);
+            generator.writeString(buffer, 0, length);
+        } else {
+            generator.writeString("৳ " + ToBangla.getInstance().changeByChar(amount.toPlainString()));
+        }
+    }
+}
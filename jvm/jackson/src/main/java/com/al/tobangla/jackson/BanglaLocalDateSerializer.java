@@ -0,0 +1,28 @@
+package com.al.tobangla.jackson;
+
+import com.al.tobangla.processor.BanglaCharWriter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * LocalDate as the bangla ordinal date of ToBangla.getBanglaOrdinalDate, e.g.
+ * "২১শে জানুয়ারী, ২০১৮".
+ */
+public class BanglaLocalDateSerializer extends StdSerializer<LocalDate> {
+
+    public static final BanglaLocalDateSerializer INSTANCE = new BanglaLocalDateSerializer();
+
+    public BanglaLocalDateSerializer() {
+        super(LocalDate.class);
+    }
+
+    @Override
+    public void serialize(LocalDate value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        char[] buffer = CharBuffers.get();
+        generator.writeString(buffer, 0, BanglaCharWriter.writeEpochDay(value.toEpochDay(), buffer, 0));
+    }
+}
@@ -0,0 +1,34 @@
+package com.al.tobangla.jackson;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Jackson module writing Byte, Short, Integer and Long values as bangla digit strings,
+ * LocalDate as bangla ordinal dates and BigDecimal as taka amounts. The chars go from
+ * BanglaCharWriter straight into JsonGenerator.writeString(char[], int, int), no String
+ * is made per field.
+ * <pre>
+ * ObjectMapper mapper = new ObjectMapper().registerModule(new BanglaModule());
+ * </pre>
+ * To convert only some fields, leave the module out and put the serializers on them with
+ * {@code @JsonSerialize(using = ...)}.
+ */
+public class BanglaModule extends SimpleModule {
+
+    public BanglaModule() {
+        super("BanglaModule");
+        addSerializer(Byte.class, BanglaNumberSerializer.INSTANCE);
+        addSerializer(Short.class, BanglaNumberSerializer.INSTANCE);
+        addSerializer(Integer.class, BanglaNumberSerializer.INSTANCE);
+        addSerializer(Long.class, BanglaNumberSerializer.INSTANCE);
+        addSerializer(byte.class, BanglaNumberSerializer.INSTANCE);
+        addSerializer(short.class, BanglaNumberSerializer.INSTANCE);
+        addSerializer(int.class, BanglaNumberSerializer.INSTANCE);
+        addSerializer(long.class, BanglaNumberSerializer.INSTANCE);
+        addSerializer(LocalDate.class, BanglaLocalDateSerializer.INSTANCE);
+        addSerializer(BigDecimal.class, BanglaAmountSerializer.INSTANCE);
+    }
+}
@@ -0,0 +1,26 @@
+package com.al.tobangla.jackson;
+
+import com.al.tobangla.processor.BanglaCharWriter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Whole numbers (Byte, Short, Integer, Long) as JSON strings of bangla digits, e.g. "১২৩৪".
+ */
+public class BanglaNumberSerializer extends StdSerializer<Number> {
+
+    public static final BanglaNumberSerializer INSTANCE = new BanglaNumberSerializer();
+
+    public BanglaNumberSerializer() {
+        super(Number.class);
+    }
+
+    @Override
+    public void serialize(Number value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        char[] buffer = CharBuffers.get();
+        generator.writeString(buffer, 0, BanglaCharWriter.writeNumber(value.longValue(), buffer, 0));
+    }
+}
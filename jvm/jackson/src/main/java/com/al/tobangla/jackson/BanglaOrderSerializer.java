@@ -0,0 +1,29 @@
+package com.al.tobangla.jackson;
+
+import com.al.tobangla.processor.BanglaCharWriter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Non negative whole numbers as bangla numeric orders, e.g. "২১তম". Not registered by
+ * BanglaModule, put it on fields with @JsonSerialize(using = BanglaOrderSerializer.class).
+ */
+public class BanglaOrderSerializer extends StdSerializer<Number> {
+
+    public BanglaOrderSerializer() {
+        super(Number.class);
+    }
+
+    @Override
+    public void serialize(Number value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        char[] buffer = CharBuffers.get();
+        try {
+            generator.writeString(buffer, 0, BanglaCharWriter.writeOrder(value.intValue(), buffer, 0));
+        } catch (IllegalArgumentException e) {
+            provider.reportMappingProblem(e, "No bangla order for %s", value);
+        }
+    }
+}
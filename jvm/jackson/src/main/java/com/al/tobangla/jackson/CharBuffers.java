@@ -0,0 +1,27 @@
+package com.al.tobangla.jackson;
+
+import com.al.tobangla.processor.BanglaCharWriter;
+
+/**
+ * One char buffer per thread for the serializers, the generator copies the chars out
+ * before writeString returns, so the buffer is free again right after.
+ */
+final class CharBuffers {
+
+    private static final int SIZE = Math.max(BanglaCharWriter.MAX_AMOUNT_LENGTH,
+            Math.max(BanglaCharWriter.MAX_DATE_LENGTH, BanglaCharWriter.MAX_NUMBER_LENGTH + 3));
+
+    private static final ThreadLocal<char[]> BUFFER = new ThreadLocal<char[]>() {
+        @Override
+        protected char[] initialValue() {
+            return new char[SIZE];
+        }
+    };
+
+    private CharBuffers() {
+    }
+
+    static char[] get() {
+        return BUFFER.get();
+    }
+}
@@ -0,0 +1,61 @@
+package com.al.tobangla.jackson;
+
+import com.al.tobangla.processor.ToBangla;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class BanglaModuleTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new BanglaModule());
+
+    public static class Order {
+        public int id = 1234;
+        public Long total = Long.MIN_VALUE;
+        public LocalDate date = LocalDate.of(2018, 1, 21);
+        public BigDecimal amount = new BigDecimal("1234.50");
+        @JsonSerialize(using = BanglaOrderSerializer.class)
+        public int position = 21;
+        public String note = "2 items";
+    }
+
+    public static class Position {
+        @JsonSerialize(using = BanglaOrderSerializer.class)
+        public int position = -1;
+    }
+
+    @Test
+    public void writesBanglaFields() throws Exception {
+        assertEquals("{\"id\":\"১২৩৪\",\"total\":\"-৯২২৩৩৭২০৩৬৮৫৪৭৭৫৮০৮\",\"date\":\"২১শে জানুয়ারী, ২০১৮\","
+                        + "\"amount\":\"৳ ১২৩৪.৫০\",\"position\":\"২১তম\",\"note\":\"2 items\"}",
+                mapper.writeValueAsString(new Order()));
+    }
+
+    @Test
+    public void datesMatchToBangla() throws Exception {
+        ToBangla toBangla = ToBangla.getInstance();
+        for (LocalDate date = LocalDate.of(1999, 12, 1); date.getYear() < 2001; date = date.plusDays(7)) {
+            assertEquals("\"" + toBangla.getBanglaOrdinalDate(date.toString()) + "\"", mapper.writeValueAsString(date));
+        }
+    }
+
+    @Test
+    public void amountsKeepTheirScale() throws Exception {
+        assertEquals("[\"৳ ০.০৫\",\"৳ -১২\",\"৳ ১২০০\",\"৳ ১২৩৪৫৬৭৮৯০১২৩৪৫৬৭৮৯০.১\"]", mapper.writeValueAsString(Arrays.asList(
+                new BigDecimal("0.05"), new BigDecimal("-12"), new BigDecimal("1.2E+3"),
+                new BigDecimal("12345678901234567890.1"))));
+    }
+
+    @Test(expected = JsonMappingException.class)
+    public void rejectsNegativeOrders() throws Exception {
+        mapper.writeValueAsString(new Position());
+    }
+}
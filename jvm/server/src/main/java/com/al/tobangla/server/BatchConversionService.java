@@ -0,0 +1,284 @@
+package com.al.tobangla.server;
+
+import com.al.tobangla.processor.ConversionPipeline;
+import com.al.tobangla.processor.ConversionPipelines;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces conversions submitted from many threads into batches run by a single worker.
+ * <p>
+ * Requests wait in a bounded queue, the worker drains everything queued up to the batch
+ * size and converts each distinct (pipeline, text) pair of the batch once. A full queue
+ * rejects new requests instead of growing, so callers see backpressure as a
+ * RejectedExecutionException. Throughput and latency counters are kept for monitoring.
+ */
+public class BatchConversionService {
+
+    private final BlockingQueue<Request> queue;
+    private final int batchSize;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final long startNanos = System.nanoTime();
+
+    /*
+    * @param number of requests waiting before new ones are rejected
+    * @param max number of requests converted per batch
+    */
+    public BatchConversionService(final int queueCapacity, final int batchSize) {
+        if (queueCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("queueCapacity " + queueCapacity + ", batchSize " + batchSize);
+        }
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.worker = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                work();
+            }
+        }, "BatchConversionService");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /*
+    * @param id of a pipeline registered in ConversionPipelines
+    * @param text EN-US
+    * @return converted text once its batch ran
+    * @throws RejectedExecutionException when the queue is full or the service is shut down
+    */
+    public Future<String> submit(final int pipelineId, final String text) {
+        if (text == null) {
+            throw new NullPointerException();
+        }
+        if (!running) {
+            throw new RejectedExecutionException("shut down");
+        }
+        Request request = new Request(pipelineId, text);
+        if (!queue.offer(request)) {
+            rejected.incrementAndGet();
+            throw new RejectedExecutionException("queue full");
+        }
+        //shutdown may have run since the check above and the worker may be gone already,
+        //take the request back unless the worker got it first
+        if (!running && queue.remove(request)) {
+            throw new RejectedExecutionException("shut down");
+        }
+        submitted.incrementAndGet();
+        return request;
+    }
+
+    /*
+    * Stops taking requests, the ones already queued are still converted
+    */
+    public void shutdown() {
+        running = false;
+        worker.interrupt();
+    }
+
+    public long getSubmitted() {
+        return submitted.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    public long getBatches() {
+        return batches.get();
+    }
+
+    public int getQueued() {
+        return queue.size();
+    }
+
+    /*
+    * @return mean time from submit to completion in micro seconds
+    */
+    public long getMeanLatencyMicros() {
+        long count = completed.get();
+        return count == 0 ? 0 : totalLatencyNanos.get() / count / 1000;
+    }
+
+    public long getMaxLatencyMicros() {
+        return maxLatencyNanos.get() / 1000;
+    }
+
+    /*
+    * @return one line summary of the counters
+    */
+    public String getStats() {
+        long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+        long count = completed.get();
+        long batchCount = batches.get();
+        return "submitted: " + submitted.get()
+                + ", rejected: " + rejected.get()
+                + ", completed: " + count
+                + ", queued: " + queue.size()
+                + ", batches: " + batchCount
+                + ", mean batch: " + (batchCount == 0 ? 0 : count / batchCount)
+                + ", requests/sec: " + count * 1000000000L / elapsedNanos
+                + ", mean latency: " + getMeanLatencyMicros() + " us"
+                + ", max latency: " + getMaxLatencyMicros() + " us";
+    }
+
+    private void work() {
+        List<Request> batch = new ArrayList<>(batchSize);
+        //converted text per pipeline and text within one batch
+        Map<Key, String> converted = new HashMap<>();
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Request first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            queue.drainTo(batch, batchSize - 1);
+
+            for (Request request : batch) {
+                String text = converted.get(request.key);
+                if (text == null && !converted.containsKey(request.key)) {
+                    text = convert(request);
+                    converted.put(request.key, text);
+                }
+                request.complete(text);
+                recordLatency(System.nanoTime() - request.submitNanos);
+            }
+            batches.incrementAndGet();
+            batch.clear();
+            converted.clear();
+        }
+    }
+
+    private static String convert(final Request request) {
+        ConversionPipeline pipeline = ConversionPipelines.get(request.key.pipelineId);
+        if (pipeline == null) {
+            return null;
+        }
+        try {
+            return pipeline.convert(request.key.text);
+        } catch (RuntimeException e) {
+            //malformed input fails its own request, not the batch
+            return null;
+        }
+    }
+
+    private void recordLatency(final long nanos) {
+        completed.incrementAndGet();
+        totalLatencyNanos.addAndGet(nanos);
+        long max = maxLatencyNanos.get();
+        while (nanos > max && !maxLatencyNanos.compareAndSet(max, nanos)) {
+            max = maxLatencyNanos.get();
+        }
+    }
+
+    /**
+     * Pending conversion. Requests are told apart by identity, so a submit taking its own
+     * request back never removes an equal one of another caller.
+     */
+    private static final class Request implements Future<String> {
+
+        final Key key;
+        final long submitNanos = System.nanoTime();
+
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile String result;
+
+        Request(int pipelineId, String text) {
+            this.key = new Key(pipelineId, text);
+        }
+
+        void complete(final String converted) {
+            result = converted;
+            done.countDown();
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public boolean isDone() {
+            return done.getCount() == 0;
+        }
+
+        /*
+        * @return converted text, null when the pipeline is unknown or failed on the text
+        */
+        @Override
+        public String get() throws InterruptedException, ExecutionException {
+            done.await();
+            return result;
+        }
+
+        @Override
+        public String get(final long timeout, final TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            if (!done.await(timeout, unit)) {
+                throw new TimeoutException();
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Pipeline and text of a request, equal keys of a batch are converted once.
+     */
+    private static final class Key {
+
+        final int pipelineId;
+        final String text;
+
+        Key(int pipelineId, String text) {
+            this.pipelineId = pipelineId;
+            this.text = text;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return pipelineId == key.pipelineId && text.equals(key.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * pipelineId + text.hashCode();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.al.tobangla.server;
+
+import com.al.tobangla.processor.ConversionPipelines;
+import com.al.tobangla.utils.ProcessType;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Local HTTP conversion server for processes outside the JVM, backed by a
+ * BatchConversionService. It listens on the loopback address only, every exchange runs on
+ * its own virtual thread.
+ * <pre>
+ * POST /convert/&lt;pipeline&gt;   UTF-8 body, one EN-US text per line, answered with one
+ *                           converted line per line; pipeline is a ProcessType name or id
+ * GET  /stats               counters of the service
+ * </pre>
+ * A full queue is answered with 503 and Retry-After, so clients can back off; an unknown
+ * pipeline with 404, a text the pipeline fails on with 422.
+ * <pre>
+ * ConversionServer [--port 8089] [--queue n] [--batch n]
+ * </pre>
+ */
+public class ConversionServer {
+
+    private static final String CONVERT = "/convert/";
+    private static final String STATS = "/stats";
+    private static final String TEXT_PLAIN = "text/plain; charset=utf-8";
+
+    private final BatchConversionService service;
+    private final ExecutorService executor;
+    private final HttpServer server;
+
+    /*
+    * @param port on the loopback address, 0 for any free port
+    * @param service the conversions are submitted to
+    */
+    public ConversionServer(final int port, final BatchConversionService service) throws IOException {
+        this.service = service;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext(CONVERT, this::convert);
+        this.server.createContext(STATS, this::stats);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = 8089;
+        int queue = 4096;
+        int batch = 256;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--port":
+                    port = Integer.parseInt(args[++i]);
+                    break;
+                case "--queue":
+                    queue = Integer.parseInt(args[++i]);
+                    break;
+                case "--batch":
+                    batch = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    usage();
+                    return;
+            }
+        }
+
+        ConversionServer server = new ConversionServer(port, new BatchConversionService(queue, batch));
+        server.start();
+        System.err.println("listening on http://127.0.0.1:" + server.getPort());
+    }
+
+    private static void usage() {
+        System.err.println("usage: ConversionServer [--port 8089] [--queue n] [--batch n]");
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /*
+    * Stops accepting, lets running exchanges finish for up to a second and shuts the
+    * service down
+    */
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+        service.shutdown();
+    }
+
+    private void stats(final HttpExchange exchange) throws IOException {
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, "GET only");
+            return;
+        }
+        respond(exchange, 200, service.getStats());
+    }
+
+    private void convert(final HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, "POST only");
+            return;
+        }
+        String name = exchange.getRequestURI().getPath().substring(CONVERT.length());
+        int pipelineId = parsePipeline(name);
+        if (pipelineId < 0 || ConversionPipelines.get(pipelineId) == null) {
+            respond(exchange, 404, "unknown pipeline " + name);
+            return;
+        }
+
+        String[] lines = read(exchange.getRequestBody()).split("\n", -1);
+        //a trailing newline ends the last text, it doesn't start another one
+        int count = lines.length > 1 && lines[lines.length - 1].isEmpty() ? lines.length - 1 : lines.length;
+
+        //every line is queued before waiting, so they can share a batch
+        List<Future<String>> results = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                results.add(service.submit(pipelineId, lines[i]));
+            }
+        } catch (RejectedExecutionException e) {
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            respond(exchange, 503, "busy");
+            return;
+        }
+
+        StringBuilder body = new StringBuilder();
+        try {
+            for (int i = 0; i < count; i++) {
+                String converted = results.get(i).get();
+                if (converted == null) {
+                    respond(exchange, 422, "conversion failed on line " + (i + 1));
+                    return;
+                }
+                body.append(converted).append('\n');
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, "shutting down");
+            return;
+        } catch (ExecutionException e) {
+            respond(exchange, 500, "conversion failed");
+            return;
+        }
+        respond(exchange, 200, body.toString());
+    }
+
+    private static String read(final InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            bytes.write(buffer, 0, read);
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final String text) throws IOException {
+        byte[] body = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", TEXT_PLAIN);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /*
+    * @param ProcessType name or pipeline id
+    * @return pipeline id, -1 when it is neither
+    */
+    private static int parsePipeline(final String pipeline) {
+        try {
+            return Integer.parseInt(pipeline);
+        } catch (NumberFormatException e) {
+            try {
+                return ProcessType.valueOf(pipeline).getValue();
+            } catch (IllegalArgumentException unknown) {
+                return -1;
+            }
+        }
+    }
+}
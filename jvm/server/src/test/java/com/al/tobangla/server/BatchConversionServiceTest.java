@@ -0,0 +1,160 @@
+package com.al.tobangla.server;
+
+import com.al.tobangla.processor.ConversionPipeline;
+import com.al.tobangla.processor.ConversionPipelines;
+import com.al.tobangla.processor.ConverterStage;
+import com.al.tobangla.utils.ProcessType;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class BatchConversionServiceTest {
+
+    //pipeline ids for the tests, clear of ProcessType values
+    private static final int BLOCKING = 1000;
+    private static final int FAILING = 1001;
+
+    private static CountDownLatch registerBlocking() {
+        final CountDownLatch release = new CountDownLatch(1);
+        ConversionPipelines.register(BLOCKING, new ConversionPipeline.Builder().stage(new ConverterStage() {
+            @Override
+            public String convert(String text) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return text;
+            }
+        }).build());
+        return release;
+    }
+
+    @Test
+    public void convertsThroughRegisteredPipelines() throws Exception {
+        BatchConversionService service = new BatchConversionService(16, 4);
+        try {
+            assertEquals("১২৩৪", service.submit(ProcessType.NUMBER.getValue(), "1234").get(5, TimeUnit.SECONDS));
+            assertEquals("৳ ১২.৫০", service.submit(ProcessType.AMOUNT.getValue(), "12.50").get(5, TimeUnit.SECONDS));
+            assertNull(service.submit(-1, "1234").get(5, TimeUnit.SECONDS));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void failingTextFailsOnlyItsRequest() throws Exception {
+        ConversionPipelines.register(FAILING, new ConversionPipeline.Builder().stage(new ConverterStage() {
+            @Override
+            public String convert(String text) {
+                return Integer.toString(Integer.parseInt(text));
+            }
+        }).build());
+        BatchConversionService service = new BatchConversionService(16, 16);
+        try {
+            Future<String> bad = service.submit(FAILING, "x");
+            Future<String> good = service.submit(FAILING, "12");
+            assertNull(bad.get(5, TimeUnit.SECONDS));
+            assertEquals("12", good.get(5, TimeUnit.SECONDS));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void rejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch release = registerBlocking();
+        BatchConversionService service = new BatchConversionService(2, 1);
+        try {
+            List<Future<String>> accepted = new ArrayList<>();
+            accepted.add(service.submit(BLOCKING, "a"));
+            //the worker takes the first one and blocks on it
+            while (service.getQueued() > 0) {
+                Thread.sleep(1);
+            }
+            accepted.add(service.submit(BLOCKING, "b"));
+            accepted.add(service.submit(BLOCKING, "c"));
+            try {
+                service.submit(BLOCKING, "d");
+                fail("queue full");
+            } catch (RejectedExecutionException expected) {
+            }
+            assertEquals(1, service.getRejected());
+
+            release.countDown();
+            assertEquals("a", accepted.get(0).get(5, TimeUnit.SECONDS));
+            assertEquals("b", accepted.get(1).get(5, TimeUnit.SECONDS));
+            assertEquals("c", accepted.get(2).get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void queuedRequestsCompleteAfterShutdown() throws Exception {
+        CountDownLatch release = registerBlocking();
+        BatchConversionService service = new BatchConversionService(8, 1);
+        Future<String> first = service.submit(BLOCKING, "a");
+        Future<String> second = service.submit(BLOCKING, "b");
+        service.shutdown();
+        release.countDown();
+        assertEquals("a", first.get(5, TimeUnit.SECONDS));
+        assertEquals("b", second.get(5, TimeUnit.SECONDS));
+        try {
+            service.submit(BLOCKING, "c");
+            fail("shut down");
+        } catch (RejectedExecutionException expected) {
+        }
+    }
+
+    @Test(timeout = 60000)
+    public void acceptedRequestsCompleteWhenShutdownRaces() throws Exception {
+        final int number = ProcessType.NUMBER.getValue();
+        for (int round = 0; round < 200; round++) {
+            final BatchConversionService service = new BatchConversionService(64, 8);
+            final List<List<Future<String>>> accepted = new ArrayList<>();
+            List<Thread> clients = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                final List<Future<String>> futures = new ArrayList<>();
+                accepted.add(futures);
+                clients.add(Thread.ofVirtual().start(new Runnable() {
+                    @Override
+                    public void run() {
+                        while (true) {
+                            try {
+                                futures.add(service.submit(number, "42"));
+                            } catch (RejectedExecutionException e) {
+                                if ("shut down".equals(e.getMessage())) {
+                                    return;
+                                }
+                                Thread.yield();
+                            }
+                        }
+                    }
+                }));
+            }
+            Thread.sleep(round % 3);
+            service.shutdown();
+            for (Thread client : clients) {
+                client.join();
+            }
+            //every request submit returned must complete, none is left in a dead queue
+            for (List<Future<String>> futures : accepted) {
+                for (Future<String> future : futures) {
+                    assertEquals("৪২", future.get(5, TimeUnit.SECONDS));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.al.tobangla.server;
+
+import com.al.tobangla.processor.ConversionPipeline;
+import com.al.tobangla.processor.ConversionPipelines;
+import com.al.tobangla.processor.ConverterStage;
+import com.al.tobangla.processor.ToBangla;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ConversionServerTest {
+
+    private static final int BLOCKING = 1002;
+    private static final int FAILING = 1003;
+
+    private BatchConversionService service;
+    private ConversionServer server;
+    private HttpClient client;
+
+    @Before
+    public void start() throws Exception {
+        service = new BatchConversionService(4096, 256);
+        server = new ConversionServer(0, service);
+        server.start();
+        client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+    }
+
+    @After
+    public void stop() {
+        server.stop();
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + path))
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + path)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void convertsEveryLine() throws Exception {
+        HttpResponse<String> response = post("/convert/NUMBER", "123\n4567\n");
+        assertEquals(200, response.statusCode());
+        assertEquals("১২৩\n৪৫৬৭\n", response.body());
+
+        response = post("/convert/AMOUNT", "12.50");
+        assertEquals(200, response.statusCode());
+        assertEquals("৳ ১২.৫০\n", response.body());
+    }
+
+    @Test
+    public void concurrentClientsGetTheirOwnAnswers() throws Exception {
+        final int clients = 32;
+        final int requestsPerClient = 50;
+        final int linesPerRequest = 10;
+        final ToBangla toBangla = ToBangla.getInstance();
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            final long seed = c;
+            results.add(executor.submit(() -> {
+                Random random = new Random(seed);
+                for (int r = 0; r < requestsPerClient; r++) {
+                    StringBuilder body = new StringBuilder();
+                    StringBuilder expected = new StringBuilder();
+                    for (int l = 0; l < linesPerRequest; l++) {
+                        String number = Integer.toString(random.nextInt(1000000));
+                        body.append(number).append('\n');
+                        expected.append(toBangla.getNumber(number)).append('\n');
+                    }
+                    HttpResponse<String> response = post("/convert/NUMBER", body.toString());
+                    assertEquals(200, response.statusCode());
+                    assertEquals(expected.toString(), response.body());
+                }
+                return requestsPerClient;
+            }));
+        }
+        for (Future<Integer> result : results) {
+            assertEquals(requestsPerClient, (int) result.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertEquals(clients * requestsPerClient * linesPerRequest, service.getCompleted());
+        assertEquals(0, service.getRejected());
+        HttpResponse<String> stats = get("/stats");
+        assertEquals(200, stats.statusCode());
+        assertTrue(stats.body(), stats.body().contains("completed: " + clients * requestsPerClient * linesPerRequest));
+    }
+
+    @Test
+    public void answersErrorsWithStatusCodes() throws Exception {
+        ConversionPipelines.register(FAILING, new ConversionPipeline.Builder().stage(new ConverterStage() {
+            @Override
+            public String convert(String text) {
+                return Integer.toString(Integer.parseInt(text));
+            }
+        }).build());
+
+        assertEquals(404, post("/convert/NOPE", "1").statusCode());
+        assertEquals(404, post("/convert/999", "1").statusCode());
+        HttpResponse<String> failed = post("/convert/" + FAILING, "1\nx");
+        assertEquals(422, failed.statusCode());
+        assertEquals("conversion failed on line 2", failed.body());
+        assertEquals(405, get("/convert/NUMBER").statusCode());
+        assertEquals(405, post("/stats", "").statusCode());
+    }
+
+    @Test
+    public void answersBusyWhenQueueIsFull() throws Exception {
+        server.stop();
+        final CountDownLatch release = new CountDownLatch(1);
+        ConversionPipelines.register(BLOCKING, new ConversionPipeline.Builder().stage(new ConverterStage() {
+            @Override
+            public String convert(String text) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return text;
+            }
+        }).build());
+        service = new BatchConversionService(2, 1);
+        server = new ConversionServer(0, service);
+        server.start();
+        try {
+            //the worker blocks on the first request, the second one fills the queue
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            Future<HttpResponse<String>> first = executor.submit(() -> post("/convert/" + BLOCKING, "a"));
+            while (service.getSubmitted() < 1 || service.getQueued() > 0) {
+                Thread.sleep(1);
+            }
+            Future<HttpResponse<String>> second = executor.submit(() -> post("/convert/" + BLOCKING, "b\nc"));
+            while (service.getSubmitted() < 3) {
+                Thread.sleep(1);
+            }
+
+            HttpResponse<String> busy = post("/convert/" + BLOCKING, "d");
+            assertEquals(503, busy.statusCode());
+            assertEquals("1", busy.headers().firstValue("Retry-After").orElse(null));
+
+            release.countDown();
+            assertEquals("a\n", first.get(5, TimeUnit.SECONDS).body());
+            assertEquals("b\nc\n", second.get(5, TimeUnit.SECONDS).body());
+            executor.shutdown();
+        } finally {
+            release.countDown();
+        }
+    }
+}
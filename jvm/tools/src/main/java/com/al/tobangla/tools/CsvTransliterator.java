@@ -0,0 +1,365 @@
+package com.al.tobangla.tools;
+
+import com.al.tobangla.processor.ToBangla;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Command line tool converting selected columns of a CSV/TSV file to Bangla.
+ * <p>
+ * The input is memory-mapped and split into line aligned chunks which are converted
+ * in parallel and written back in their original order. Records are expected to be
+ * one per line, quoted fields may contain the delimiter but not line breaks.
+ * <pre>
+ * CsvTransliterator &lt;input&gt; &lt;output&gt; --columns 2,5 [--date-columns 3] [--tsv]
+ *                   [--header] [--threads n] [--chunk-size mb]
+ * </pre>
+ * Column numbers start from 1.
+ */
+public class CsvTransliterator {
+
+    private static final int MB = 1024 * 1024;
+    private static final byte NEW_LINE = '\n';
+    private static final byte QUOTE = '"';
+
+    //UTF-8 bytes of '০', the following digits only differ in the last byte
+    private static final byte BN_DIGIT_LEAD = (byte) 0xE0;
+    private static final byte BN_DIGIT_MID = (byte) 0xA7;
+    private static final int BN_DIGIT_ZERO_LAST = 0xA6;
+
+    private static final Charset ASCII = Charset.forName("US-ASCII");
+    private static final Map<String, byte[]> MONTHS = buildMonths();
+
+    private final boolean[] digitColumns;
+    private final boolean[] dateColumns;
+    private final byte delimiter;
+    private final boolean header;
+    private final int threads;
+    private final int chunkSize;
+
+    public CsvTransliterator(boolean[] digitColumns, boolean[] dateColumns, byte delimiter,
+                             boolean header, int threads, int chunkSize) {
+        this.digitColumns = digitColumns;
+        this.dateColumns = dateColumns;
+        this.delimiter = delimiter;
+        this.header = header;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 3) {
+            usage();
+            return;
+        }
+
+        String columns = null;
+        String dateColumns = null;
+        byte delimiter = ',';
+        boolean header = false;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int chunkSize = 8 * MB;
+
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--columns":
+                    columns = args[++i];
+                    break;
+                case "--date-columns":
+                    dateColumns = args[++i];
+                    break;
+                case "--tsv":
+                    delimiter = '\t';
+                    break;
+                case "--header":
+                    header = true;
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--chunk-size":
+                    chunkSize = parseChunkSize(args[++i]);
+                    break;
+                default:
+                    usage();
+                    return;
+            }
+        }
+
+        CsvTransliterator transliterator = new CsvTransliterator(parseColumns(columns),
+                parseColumns(dateColumns), delimiter, header, threads, chunkSize);
+
+        long start = System.nanoTime();
+        long rows = transliterator.transliterate(new File(args[0]), new File(args[1]));
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+
+        System.err.println("rows: " + rows
+                + ", elapsed: " + elapsedNanos / 1000000 + " ms"
+                + ", rows/sec: " + rows * 1000000000L / elapsedNanos);
+    }
+
+    private static void usage() {
+        System.err.println("usage: CsvTransliterator <input> <output> --columns 2,5 [--date-columns 3]"
+                + " [--tsv] [--header] [--threads n] [--chunk-size mb]");
+    }
+
+    /*
+    * @param chunk size in MB
+    * @return chunk size in bytes, a chunk is mapped at once so it must fit an int
+    */
+    static int parseChunkSize(String megabytes) {
+        long size = Long.parseLong(megabytes.trim());
+        if (size < 1 || size > Integer.MAX_VALUE / MB) {
+            throw new IllegalArgumentException("Chunk size must be from 1 to " + Integer.MAX_VALUE / MB + " MB: " + megabytes);
+        }
+        return (int) size * MB;
+    }
+
+    /*
+    * @param comma separated 1 based column numbers, may be null
+    * @return flags indexed by 0 based column
+    */
+    static boolean[] parseColumns(String columns) {
+        if (columns == null || columns.isEmpty()) {
+            return new boolean[0];
+        }
+        String[] parts = columns.split(",");
+        int max = 0;
+        int[] indexes = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            indexes[i] = Integer.parseInt(parts[i].trim()) - 1;
+            if (indexes[i] < 0) {
+                throw new IllegalArgumentException("Column numbers start from 1: " + columns);
+            }
+            max = Math.max(max, indexes[i]);
+        }
+        boolean[] flags = new boolean[max + 1];
+        for (int index : indexes) {
+            flags[index] = true;
+        }
+        return flags;
+    }
+
+    /*
+    * Converts the input file into the output file
+    * @param input CSV/TSV file
+    * @param output file, replaced if exists
+    * @return number of rows processed, the header excluded
+    */
+    public long transliterate(File input, File output) throws IOException, InterruptedException {
+        RandomAccessFile in = new RandomAccessFile(input, "r");
+        RandomAccessFile out = new RandomAccessFile(output, "rw");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            out.setLength(0);
+            FileChannel inChannel = in.getChannel();
+            FileChannel outChannel = out.getChannel();
+
+            long size = inChannel.size();
+            long rows = 0;
+            long position = 0;
+            //bounded so that converted chunks don't pile up in memory ahead of the writer
+            ArrayDeque<Future<Chunk>> pending = new ArrayDeque<>();
+
+            while (position < size) {
+                long end = nextLineBoundary(inChannel, Math.min(size, position + chunkSize), size);
+                pending.add(executor.submit(new ChunkTask(inChannel, position, end, position == 0 && header)));
+                position = end;
+
+                if (pending.size() >= threads * 2) {
+                    rows += write(pending.poll(), outChannel);
+                }
+            }
+            while (!pending.isEmpty()) {
+                rows += write(pending.poll(), outChannel);
+            }
+            return rows;
+        } finally {
+            executor.shutdownNow();
+            in.close();
+            out.close();
+        }
+    }
+
+    private static long write(Future<Chunk> future, FileChannel channel) throws IOException, InterruptedException {
+        Chunk chunk;
+        try {
+            chunk = future.get();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(chunk.bytes, 0, chunk.length);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return chunk.rows;
+    }
+
+    /*
+    * @param from where the search for the line end starts
+    * @return position right after the next line break, or size
+    */
+    private static long nextLineBoundary(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        long position = from;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == NEW_LINE) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static Map<String, byte[]> buildMonths() {
+        Charset utf8 = Charset.forName("UTF-8");
+        String[] names = {"january", "february", "march", "april", "may", "june", "july", "august",
+                "september", "october", "november", "december"};
+        Map<String, byte[]> months = new HashMap<>();
+        for (String name : names) {
+            byte[] bangla = ToBangla.getInstance().getMonth(name).getBytes(utf8);
+            months.put(name, bangla);
+            months.put(name.substring(0, 3), bangla);
+        }
+        return months;
+    }
+
+    private static final class Chunk {
+        final byte[] bytes;
+        final int length;
+        final long rows;
+
+        Chunk(byte[] bytes, int length, long rows) {
+            this.bytes = bytes;
+            this.length = length;
+            this.rows = rows;
+        }
+    }
+
+    private final class ChunkTask implements Callable<Chunk> {
+
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+        private final boolean skipFirstLine;
+
+        private byte[] out;
+        private int length;
+
+        ChunkTask(FileChannel channel, long start, long end, boolean skipFirstLine) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+            this.skipFirstLine = skipFirstLine;
+        }
+
+        @Override
+        public Chunk call() throws IOException {
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            int size = in.limit();
+            //digits grow from 1 to 3 bytes, a converted chunk is at most 3 times larger
+            out = new byte[size + size / 2 + 16];
+            length = 0;
+
+            long rows = 0;
+            int column = 0;
+            boolean quoted = false;
+            boolean convert = !skipFirstLine;
+            int wordStart = -1;
+
+            for (int i = 0; i < size; i++) {
+                byte b = in.get(i);
+
+                boolean date = convert && column < dateColumns.length && dateColumns[column];
+                if (date && isLetter(b)) {
+                    if (wordStart < 0) {
+                        wordStart = i;
+                    }
+                    continue;
+                }
+                if (wordStart >= 0) {
+                    writeWord(in, wordStart, i);
+                    wordStart = -1;
+                }
+
+                if (b == QUOTE) {
+                    quoted = !quoted;
+                } else if (!quoted && b == delimiter) {
+                    column++;
+                } else if (b == NEW_LINE) {
+                    //the header line isn't a row
+                    if (convert) {
+                        rows++;
+                    }
+                    column = 0;
+                    quoted = false;
+                    convert = true;
+                } else if (b >= '0' && b <= '9'
+                        && (date || convert && column < digitColumns.length && digitColumns[column])) {
+                    ensureCapacity(3);
+                    out[length++] = BN_DIGIT_LEAD;
+                    out[length++] = BN_DIGIT_MID;
+                    out[length++] = (byte) (BN_DIGIT_ZERO_LAST + b - '0');
+                    continue;
+                }
+                ensureCapacity(1);
+                out[length++] = b;
+            }
+            if (wordStart >= 0) {
+                writeWord(in, wordStart, size);
+            }
+            if (convert && size > 0 && in.get(size - 1) != NEW_LINE) {
+                rows++;
+            }
+            return new Chunk(out, length, rows);
+        }
+
+        /*
+        * Writes a month name in bangla, any other word unchanged
+        */
+        private void writeWord(MappedByteBuffer in, int from, int to) {
+            byte[] word = new byte[to - from];
+            for (int i = from; i < to; i++) {
+                word[i - from] = in.get(i);
+            }
+            byte[] month = MONTHS.get(new String(word, ASCII).toLowerCase(Locale.US));
+            byte[] bytes = month != null ? month : word;
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, out, length, bytes.length);
+            length += bytes.length;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > out.length) {
+                out = Arrays.copyOf(out, Math.max(out.length * 2, length + extra));
+            }
+        }
+    }
+
+    private static boolean isLetter(byte b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z');
+    }
+}
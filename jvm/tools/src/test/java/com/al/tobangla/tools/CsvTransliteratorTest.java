@@ -0,0 +1,126 @@
+package com.al.tobangla.tools;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+
+public class CsvTransliteratorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Locale defaultLocale;
+
+    @Before
+    public void saveLocale() {
+        defaultLocale = Locale.getDefault();
+    }
+
+    @After
+    public void restoreLocale() {
+        Locale.setDefault(defaultLocale);
+    }
+
+    private static CsvTransliterator transliterator(String columns, String dateColumns, boolean header,
+                                                    int threads, int chunkSize) {
+        return new CsvTransliterator(CsvTransliterator.parseColumns(columns),
+                CsvTransliterator.parseColumns(dateColumns), (byte) ',', header, threads, chunkSize);
+    }
+
+    private String run(CsvTransliterator transliterator, String text, long expectedRows) throws Exception {
+        File input = folder.newFile();
+        File output = folder.newFile();
+        Files.write(input.toPath(), text.getBytes(StandardCharsets.UTF_8));
+        assertEquals(expectedRows, transliterator.transliterate(input, output));
+        return new String(Files.readAllBytes(output.toPath()), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void convertsSelectedColumns() throws Exception {
+        String out = run(transliterator("1,3", "", false, 2, 1024), "12,34,56\n7,\"8,9\",10\n", 2);
+        assertEquals("১২,34,৫৬\n৭,\"8,9\",১০\n", out);
+    }
+
+    @Test
+    public void keepsChunkOrderAcrossChunkBoundaries() throws Exception {
+        StringBuilder in = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int row = 0; row < 5000; row++) {
+            in.append(row).append(",x").append(row).append('\n');
+            expected.append(bangla(row)).append(",x").append(row).append('\n');
+        }
+        //chunks of a few lines each, far more chunks than threads * 2 are in flight
+        for (int chunkSize : new int[]{1, 7, 64, 4096}) {
+            String out = run(transliterator("1", "", false, 4, chunkSize), in.toString(), 5000);
+            assertEquals("chunk size " + chunkSize, expected.toString(), out);
+        }
+    }
+
+    @Test
+    public void skipsHeaderLine() throws Exception {
+        String text = "id 1,date 2\n1,21 January 2018\n2,1 feb 2019\n";
+        String out = run(transliterator("1", "2", true, 2, 1), text, 2);
+        assertEquals("id 1,date 2\n১,২১ জানুয়ারী ২০১৮\n২,১ ফেব্রুয়ারি ২০১৯\n", out);
+
+        //the header is only the first line of the file, not of every chunk
+        out = run(transliterator("1", "", true, 2, 1), "a1\n1\n2\n", 2);
+        assertEquals("a1\n১\n২\n", out);
+    }
+
+    @Test
+    public void countsRows() throws Exception {
+        assertEquals("", run(transliterator("1", "", false, 2, 16), "", 0));
+        assertEquals("", run(transliterator("1", "", true, 2, 16), "", 0));
+        assertEquals("h\n", run(transliterator("1", "", true, 2, 16), "h\n", 0));
+        //last line without a line break
+        assertEquals("১\n২", run(transliterator("1", "", false, 2, 1), "1\n2", 2));
+        assertEquals("h\n২", run(transliterator("1", "", true, 2, 1), "h\n2", 1));
+        assertEquals("\n\n", run(transliterator("1", "", false, 2, 1), "\n\n", 2));
+    }
+
+    @Test
+    public void monthNamesIgnoreDefaultLocale() throws Exception {
+        //dotless i of the turkish locale used to break "APRIL" and friends
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        String out = run(transliterator("", "1", false, 1, 1024), "1 APRIL 2018\n2 MAY 2018\n3 Friday\n", 3);
+        assertEquals("১ এপ্রিল ২০১৮\n২ মে ২০১৮\n৩ Friday\n", out);
+    }
+
+    @Test
+    public void parsesChunkSize() {
+        assertEquals(1024 * 1024, CsvTransliterator.parseChunkSize("1"));
+        assertEquals(2047 * 1024 * 1024, CsvTransliterator.parseChunkSize("2047"));
+        assertRejected("0");
+        assertRejected("-1");
+        assertRejected("2048");
+        assertRejected("4096");
+        assertRejected("9999999999999");
+    }
+
+    private static void assertRejected(String megabytes) {
+        try {
+            CsvTransliterator.parseChunkSize(megabytes);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        throw new AssertionError("accepted " + megabytes);
+    }
+
+    private static String bangla(int number) {
+        String digits = Integer.toString(number);
+        StringBuilder out = new StringBuilder(digits.length());
+        for (int i = 0; i < digits.length(); i++) {
+            out.append((char) ('০' + digits.charAt(i) - '0'));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package com.al.tobangla.vector;
+
+import com.al.tobangla.processor.DigitScript;
+
+/**
+ * In place digit conversion of DigitScript on the Vector API, a vector of chars is compared
+ * and shifted per step. The tail shorter than a vector, and everything when the
+ * jdk.incubator.vector module isn't loaded, goes through DigitScript.convertDigits.
+ */
+public final class VectorDigits {
+
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private VectorDigits() {
+    }
+
+    /*
+    * @return true when the Vector API loop runs, false when only the scalar one does
+    */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /*
+    * Convert EN-US digits in place, in bulk
+    * @param script of the converted digits
+    * @param chars to convert
+    * @param offset of the first char
+    * @param number of chars
+    */
+    public static void convertDigits(final DigitScript script, final char[] chars, final int offset, final int length) {
+        int converted = AVAILABLE ? VectorLoop.convertDigits(script.getZeroDigit() - '0', chars, offset, length) : 0;
+        script.convertDigits(chars, offset + converted, length - converted);
+    }
+}
@@ -0,0 +1,35 @@
+package com.al.tobangla.vector;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The Vector API loop, only loaded when the module is there. Chars are read as shorts,
+ * chars from 0x8000 up are negative then and never pass the digit check.
+ */
+final class VectorLoop {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+    private VectorLoop() {
+    }
+
+    /*
+    * @param shift from an EN-US digit to the same digit of the script
+    * @return number of chars converted from offset, a multiple of the vector length
+    */
+    static int convertDigits(final int shift, final char[] chars, final int offset, final int length) {
+        int step = SPECIES.length();
+        int vectorLength = length - length % step;
+        short delta = (short) shift;
+        for (int i = 0; i < vectorLength; i += step) {
+            ShortVector vector = ShortVector.fromCharArray(SPECIES, chars, offset + i);
+            VectorMask<Short> digits = vector.compare(VectorOperators.GE, (short) '0')
+                    .and(vector.compare(VectorOperators.LE, (short) '9'));
+            vector.add(delta, digits).intoCharArray(chars, offset + i);
+        }
+        return vectorLength;
+    }
+}
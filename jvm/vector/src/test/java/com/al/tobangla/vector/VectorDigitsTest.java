@@ -0,0 +1,50 @@
+package com.al.tobangla.vector;
+
+import com.al.tobangla.processor.DigitScript;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+public class VectorDigitsTest {
+
+    @Test
+    public void runsOnTheVectorApi() {
+        assertTrue(VectorDigits.isAvailable());
+    }
+
+    @Test
+    public void matchesScalarLoop() {
+        Random random = new Random(42);
+        //lengths around the vector length, with offsets, for every script
+        for (DigitScript script : DigitScript.values()) {
+            for (int length = 0; length < 200; length++) {
+                char[] chars = new char[length + 6];
+                for (int i = 0; i < chars.length; i++) {
+                    //digits, their neighbours, bangla digits and chars read as negative shorts
+                    switch (random.nextInt(4)) {
+                        case 0:
+                            chars[i] = (char) ('.' + random.nextInt(14));
+                            break;
+                        case 1:
+                            chars[i] = (char) ('০' + random.nextInt(10));
+                            break;
+                        case 2:
+                            chars[i] = (char) (0x8000 + '0' + random.nextInt(10));
+                            break;
+                        default:
+                            chars[i] = (char) random.nextInt(0x10000);
+                            break;
+                    }
+                }
+                char[] expected = chars.clone();
+                script.convertDigits(expected, 3, length);
+                VectorDigits.convertDigits(script, chars, 3, length);
+                assertArrayEquals(script + " " + length, expected, chars);
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.al.tobangla.processor;
+
+import java.io.IOException;
+
+/**
+ * Writes numbers, amounts and ordinal dates in bangla straight into a caller owned
+ * char buffer, for serializers that accept chars e.g. Jackson's
+ * JsonGenerator.writeString(char[], int, int) or Writer.write(char[], int, int).
+ * Nothing is allocated per call, so no temporary String is produced per field. The
+ * Jackson serializers of jvm/jackson are built on it.
+ */
+public final class BanglaCharWriter {
+
+    public static final int MAX_NUMBER_LENGTH = 20;
+    //৳, space, sign, 19 digits or a leading ০ and 18 fraction digits, decimal point
+    public static final int MAX_AMOUNT_LENGTH = 24;
+    //day, suffix, space, month, comma, space, year
+    public static final int MAX_DATE_LENGTH = 2 + 2 + 1 + longestMonth() + 2 + 11;
+
+    private static final String TK = "৳ ";
+    private static final int MAX_SCALE = 18;
+
+    private BanglaCharWriter() {
+    }
+
+    /*
+    * @param number to write
+    * @param buffer with at least MAX_NUMBER_LENGTH chars from offset
+    * @return number of chars written
+    */
+    public static int writeNumber(final long number, final char[] dest, final int offset) {
+        return BanglaDigits.write(number, dest, offset) - offset;
+    }
+
+    /*
+    * @param number to append
+    * @param appendable e.g. a Writer or StringBuilder
+    */
+    public static void appendNumber(final long number, final Appendable appendable) throws IOException {
+        //digits are taken from the non positive value, Long.MIN_VALUE has no positive one
+        long value = number;
+        if (value < 0) {
+            appendable.append('-');
+        } else {
+            value = -value;
+        }
+        long divisor = 1;
+        while (value / divisor <= -10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            appendable.append((char) (BanglaDigits.ZERO - value / divisor % 10));
+        }
+    }
+
+    /*
+    * Amount with the taka sign e.g. "৳ ১২৩৪.৫০" for 123450 with scale 2
+    * @param amount in minor units
+    * @param number of fraction digits in the amount, 0-18
+    * @param buffer with at least MAX_AMOUNT_LENGTH chars from offset
+    * @return number of chars written
+    */
+    public static int writeAmount(final long minorUnits, final int scale, final char[] dest, final int offset) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("scale " + scale);
+        }
+        TK.getChars(0, TK.length(), dest, offset);
+        int position = offset + TK.length();
+
+        if (minorUnits < 0) {
+            dest[position++] = '-';
+        }
+        //digits are written from the lowest, working on the negative value covers Long.MIN_VALUE
+        long value = minorUnits < 0 ? minorUnits : -minorUnits;
+        int digits = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        //at least one digit before the decimal point
+        digits = Math.max(digits, scale + 1);
+        int end = position + digits + (scale > 0 ? 1 : 0);
+        int write = end;
+        for (int i = 0; i < digits; i++) {
+            if (scale > 0 && i == scale) {
+                dest[--write] = '.';
+            }
+            dest[--write] = (char) (BanglaDigits.ZERO - (int) (value % 10));
+            value /= 10;
+        }
+        return end - offset;
+    }
+
+    /*
+    * Ordinal date as getBanglaOrdinalDate writes it e.g. "২১শে জানুয়ারী, ২০১৮"
+    * @param year
+    * @param month 1-12
+    * @param day 1-31
+    * @param buffer with at least MAX_DATE_LENGTH chars from offset
+    * @return number of chars written
+    */
+    public static int writeDate(final int year, final int month, final int day, final char[] dest, final int offset) {
+        String suffix = ToBangla.calendarSuffix(day);
+        if (month < 1 || month > ToBangla.MONTHS.length || day < 1 || suffix == null) {
+            throw new IllegalArgumentException("Wrong Format");
+        }
+        int position = BanglaDigits.write(day, dest, offset);
+        position = put(suffix, dest, position);
+        dest[position++] = ' ';
+        position = put(ToBangla.MONTHS[month - 1], dest, position);
+        dest[position++] = ',';
+        dest[position++] = ' ';
+        position = BanglaDigits.write(year, dest, position);
+        return position - offset;
+    }
+
+    /*
+    * Ordinal date of an epoch day, e.g. from LocalDate.toEpochDay()
+    * @param days since 1970-01-01
+    * @param buffer with at least MAX_DATE_LENGTH chars from offset
+    * @return number of chars written
+    */
+    public static int writeEpochDay(final long epochDay, final char[] dest, final int offset) {
+        int date = CivilDate.fromEpochDay(epochDay);
+        return writeDate(CivilDate.year(date), CivilDate.month(date), CivilDate.day(date), dest, offset);
+    }
+
+    /*
+    * Numeric order e.g. "২১তম"
+    * @param non negative number
+    * @param buffer with at least MAX_NUMBER_LENGTH + 3 chars from offset
+    * @return number of chars written
+    */
+    public static int writeOrder(final int number, final char[] dest, final int offset) {
+        String suffix = ToBangla.orderSuffix(number);
+        if (suffix == null) {
+            throw new IllegalArgumentException("Wrong Format");
+        }
+        return put(suffix, dest, BanglaDigits.write(number, dest, offset)) - offset;
+    }
+
+    private static int put(final String text, final char[] dest, final int offset) {
+        text.getChars(0, text.length(), dest, offset);
+        return offset + text.length();
+    }
+
+    private static int longestMonth() {
+        int longest = 0;
+        for (String month : ToBangla.MONTHS) {
+            longest = Math.max(longest, month.length());
+        }
+        return longest;
+    }
+}
@@ -0,0 +1,357 @@
+package com.al.tobangla.processor;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable, configurable counterpart of ToBangla, e.g.
+ * <pre>
+ * BanglaConverter converter = new BanglaConverter.Builder()
+ *         .errorPolicy(BanglaConverter.ErrorPolicy.RETURN_INPUT)
+ *         .currencyStyle(BanglaConverter.CurrencyStyle.TAKA_SUFFIX)
+ *         .monthSpelling(BanglaConverter.MonthSpelling.BANGLA_ACADEMY)
+ *         .nameMatching(BanglaConverter.NameMatching.FULL_NAMES)
+ *         .build();
+ * </pre>
+ * Options are folded into lookup tables and a fused amount pipeline when the converter is
+ * built, so conversions only look values up. Converters are thread safe, one per tenant
+ * or per setting can be kept without any locking. Ordinals are bangla only, converters of
+ * other scripts reject them through the error policy.
+ */
+public final class BanglaConverter {
+
+    /*
+    * what a conversion returns for input it can't convert
+    */
+    public enum ErrorPolicy {
+        //"Wrong Format", as ToBangla does
+        WRONG_FORMAT {
+            @Override
+            String reject(final String input) {
+                return WRONG_FORMAT_TEXT;
+            }
+        },
+        RETURN_INPUT {
+            @Override
+            String reject(final String input) {
+                return input;
+            }
+        },
+        THROW {
+            @Override
+            String reject(final String input) {
+                throw new IllegalArgumentException(WRONG_FORMAT_TEXT + ": " + input);
+            }
+        };
+
+        abstract String reject(String input);
+    }
+
+    public enum CurrencyStyle {
+        //"৳ ১২০"
+        SIGN_PREFIX("৳ ", ""),
+        //"৳১২০"
+        SIGN_ATTACHED("৳", ""),
+        //"১২০ টাকা"
+        TAKA_SUFFIX("", " টাকা"),
+        //"১২০"
+        NONE("", "");
+
+        private final String prefix;
+        private final String suffix;
+
+        CurrencyStyle(String prefix, String suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+    }
+
+    /*
+    * spelling of the month names, only applies to DigitScript.BANGLA
+    */
+    public enum MonthSpelling {
+        //as ToBangla spells them e.g. জানুয়ারী, অগাস্ট
+        DEFAULT(ToBangla.MONTHS),
+        //as the Bangla Academy spells them e.g. জানুয়ারি, আগস্ট
+        BANGLA_ACADEMY(new String[]{
+                "জানুয়ারি",
+                "ফেব্রুয়ারি",
+                "মার্চ",
+                "এপ্রিল",
+                "মে",
+                "জুন",
+                "জুলাই",
+                "আগস্ট",
+                "সেপ্টেম্বর",
+                "অক্টোবর",
+                "নভেম্বর",
+                "ডিসেম্বর"
+        });
+
+        private final String[] months;
+
+        MonthSpelling(String[] months) {
+            this.months = months;
+        }
+    }
+
+    /*
+    * EN-US month and day names looked up, in any case
+    */
+    public enum NameMatching {
+        //"january", "sunday"
+        FULL_NAMES,
+        //full names, 3 letter abbreviations and "sept", e.g. "jan", "sun"
+        ABBREVIATIONS
+    }
+
+    private static final String WRONG_FORMAT_TEXT = "Wrong Format";
+
+    //EN-US names in lower case, index 0 is January / Sunday
+    private static final String[] EN_MONTHS = {"january", "february", "march", "april", "may", "june",
+            "july", "august", "september", "october", "november", "december"};
+    private static final String[] EN_DAYS = {"sunday", "monday", "tuesday", "wednesday",
+            "thursday", "friday", "saturday"};
+
+    //ordinals rendered at build time, larger numbers are rendered per call
+    private static final int MAX_CACHED_ORDER = 100;
+    private static final int MAX_CALENDAR_DAY = 31;
+
+    private static final BanglaConverter DEFAULT = new Builder().build();
+
+    private final ErrorPolicy errorPolicy;
+    private final DigitScript script;
+    private final ConversionPipeline amount;
+    private final String[] months;
+    private final Map<String, String> monthsByName;
+    private final Map<String, String> daysByName;
+    //null for scripts other than bangla, which have no ordinals
+    private final String[] orders;
+    private final String[] calendarDays;
+
+    private BanglaConverter(final Builder builder) {
+        errorPolicy = builder.errorPolicy;
+        script = builder.script;
+        amount = new ConversionPipeline.Builder()
+                .prefix(builder.currencyStyle.prefix)
+                .digits(script)
+                .suffix(builder.currencyStyle.suffix)
+                .build();
+
+        months = new String[EN_MONTHS.length];
+        for (int month = 1; month <= months.length; month++) {
+            String override = builder.monthOverrides[month - 1];
+            if (override != null) {
+                months[month - 1] = override;
+            } else if (script == DigitScript.BANGLA) {
+                months[month - 1] = builder.monthSpelling.months[month - 1];
+            } else {
+                months[month - 1] = script.getMonth(month);
+            }
+        }
+
+        boolean abbreviations = builder.nameMatching == NameMatching.ABBREVIATIONS;
+        monthsByName = new HashMap<>(EN_MONTHS.length * 4);
+        for (int i = 0; i < EN_MONTHS.length; i++) {
+            monthsByName.put(EN_MONTHS[i], months[i]);
+            if (abbreviations) {
+                monthsByName.put(EN_MONTHS[i].substring(0, 3), months[i]);
+            }
+        }
+        if (abbreviations) {
+            //common abbreviation besides "sep"
+            monthsByName.put("sept", months[8]);
+        }
+
+        daysByName = new HashMap<>(EN_DAYS.length * 4);
+        for (int i = 0; i < EN_DAYS.length; i++) {
+            daysByName.put(EN_DAYS[i], script.getDay(i));
+            if (abbreviations) {
+                daysByName.put(EN_DAYS[i].substring(0, 3), script.getDay(i));
+            }
+        }
+
+        if (script == DigitScript.BANGLA) {
+            orders = new String[MAX_CACHED_ORDER + 1];
+            for (int number = 0; number < orders.length; number++) {
+                orders[number] = script.convert(String.valueOf(number)) + ToBangla.orderSuffix(number);
+            }
+            calendarDays = new String[MAX_CALENDAR_DAY + 1];
+            for (int number = 0; number < calendarDays.length; number++) {
+                calendarDays[number] = script.convert(String.valueOf(number)) + ToBangla.calendarSuffix(number);
+            }
+        } else {
+            orders = null;
+            calendarDays = null;
+        }
+    }
+
+    /*
+    * @return converter of the Builder defaults, bangla digits, "৳ " amounts, ToBangla's month
+    * spelling, names and their abbreviations looked up and "Wrong Format" for anything it
+    * can't convert. Unlike ToBangla it takes day abbreviations and "sept" and rejects
+    * unknown day names instead of returning them
+    */
+    public static BanglaConverter getDefault() {
+        return DEFAULT;
+    }
+
+    public DigitScript getScript() {
+        return script;
+    }
+
+    /*
+    * @param number as string EN-US
+    * @return number in the configured script
+    */
+    public String getNumber(final String number) {
+        return script.convert(number);
+    }
+
+    /*
+    * @param amount as string EN-US
+    * @return amount in the configured script and currency style
+    */
+    public String getAmount(final String amount) {
+        return this.amount.convert(amount);
+    }
+
+    /*
+    * Pipeline behind getAmount, for BanglaTextView e.g.
+    * ConversionPipelines.register(ProcessType.AMOUNT, converter.getAmountPipeline()) or
+    * under an id of its own picked through the pipelineId attribute
+    * @return amount pipeline in the configured script and currency style
+    */
+    public ConversionPipeline getAmountPipeline() {
+        return amount;
+    }
+
+    /*
+    * @param month name EN-US, any case, or an abbreviation with NameMatching.ABBREVIATIONS
+    * @return month name
+    */
+    public String getMonth(final String month) {
+        String name = monthsByName.get(month.trim().toLowerCase(Locale.US));
+        return name != null ? name : errorPolicy.reject(month);
+    }
+
+    /*
+    * @param month 1-12
+    * @return month name
+    */
+    public String getMonth(final int month) {
+        return month >= 1 && month <= months.length ? months[month - 1] : errorPolicy.reject(String.valueOf(month));
+    }
+
+    /*
+    * @param day name EN-US, any case, or an abbreviation with NameMatching.ABBREVIATIONS
+    * @return day name
+    */
+    public String getDay(final String day) {
+        String name = daysByName.get(day.trim().toLowerCase(Locale.US));
+        return name != null ? name : errorPolicy.reject(day);
+    }
+
+    /*
+    * @param number, 1 is ১ম, 4 is ৪র্থ
+    * @return number with the ordinal suffix for numeric order
+    */
+    public String getNumericOrderIndicator(final int number) {
+        if (orders == null) {
+            return errorPolicy.reject(String.valueOf(number));
+        }
+        if (number >= 0 && number <= MAX_CACHED_ORDER) {
+            return orders[number];
+        }
+        String suffix = ToBangla.orderSuffix(number);
+        return suffix != null ? script.convert(String.valueOf(number)) + suffix : errorPolicy.reject(String.valueOf(number));
+    }
+
+    /*
+    * @param day of month 0-31, 1 is ১লা, 21 is ২১শে
+    * @return day with the ordinal suffix of a calendar date
+    */
+    public String getNumericCalendarIndicator(final int day) {
+        return calendarDays != null && day >= 0 && day <= MAX_CALENDAR_DAY
+                ? calendarDays[day] : errorPolicy.reject(String.valueOf(day));
+    }
+
+    /*
+    * @param year
+    * @param month 1-12
+    * @param day of month 1-31
+    * @return ordinal date e.g. "২১শে জানুয়ারী, ২০১৮"
+    */
+    public String getOrdinalDate(final int year, final int month, final int day) {
+        if (calendarDays == null || month < 1 || month > months.length || day < 1 || day > MAX_CALENDAR_DAY) {
+            return errorPolicy.reject(year + "-" + month + "-" + day);
+        }
+        return calendarDays[day] + " " + months[month - 1] + ", " + script.convert(String.valueOf(year));
+    }
+
+    public static final class Builder {
+
+        private ErrorPolicy errorPolicy = ErrorPolicy.WRONG_FORMAT;
+        private CurrencyStyle currencyStyle = CurrencyStyle.SIGN_PREFIX;
+        private MonthSpelling monthSpelling = MonthSpelling.DEFAULT;
+        private DigitScript script = DigitScript.BANGLA;
+        private NameMatching nameMatching = NameMatching.ABBREVIATIONS;
+        private final String[] monthOverrides = new String[EN_MONTHS.length];
+
+        public Builder errorPolicy(final ErrorPolicy errorPolicy) {
+            this.errorPolicy = checkNotNull(errorPolicy);
+            return this;
+        }
+
+        public Builder currencyStyle(final CurrencyStyle currencyStyle) {
+            this.currencyStyle = checkNotNull(currencyStyle);
+            return this;
+        }
+
+        public Builder monthSpelling(final MonthSpelling monthSpelling) {
+            this.monthSpelling = checkNotNull(monthSpelling);
+            return this;
+        }
+
+        /*
+        * @param nameMatching of getMonth and getDay, names that don't match go through the
+        * error policy
+        */
+        public Builder nameMatching(final NameMatching nameMatching) {
+            this.nameMatching = checkNotNull(nameMatching);
+            return this;
+        }
+
+        /*
+        * @param script of digits, day names and, unless overridden, month names
+        */
+        public Builder script(final DigitScript script) {
+            this.script = checkNotNull(script);
+            return this;
+        }
+
+        /*
+        * @param month 1-12
+        * @param name used instead of the spelling of the script
+        */
+        public Builder month(final int month, final String name) {
+            if (month < 1 || month > monthOverrides.length) {
+                throw new IllegalArgumentException("month " + month);
+            }
+            monthOverrides[month - 1] = checkNotNull(name);
+            return this;
+        }
+
+        public BanglaConverter build() {
+            return new BanglaConverter(this);
+        }
+
+        private static <T> T checkNotNull(final T value) {
+            if (value == null) {
+                throw new NullPointerException();
+            }
+            return value;
+        }
+    }
+}
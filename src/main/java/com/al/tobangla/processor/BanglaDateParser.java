@@ -0,0 +1,282 @@
+package com.al.tobangla.processor;
+
+/**
+ * Parses dates written by getBanglaOrdinalDate / getDate back, e.g. "২১শে জানুয়ারী, ২০১৮",
+ * "21st January 2018", "২১/০১/২০১৮" or "2018-01-21".
+ * <p>
+ * Bangla and EN-US digits, calendar ordinal suffixes and bangla or english month names are
+ * recognized by walking the text once, month names and suffixes through tries compiled at
+ * class load. No regex or intermediate String is used, so it can run on every keystroke.
+ * Years are accepted from MIN_YEAR to MAX_YEAR.
+ */
+public final class BanglaDateParser {
+
+    public static final int OK = 0;
+    public static final int EMPTY = 1;
+    public static final int INVALID_DAY = 2;
+    public static final int INVALID_MONTH = 3;
+    public static final int INVALID_YEAR = 4;
+    public static final int INVALID_DATE = 5;
+    public static final int UNEXPECTED_TEXT = 6;
+
+    public static final int MIN_YEAR = 1;
+    public static final int MAX_YEAR = 9999;
+    private static final int MAX_YEAR_DIGITS = 4;
+
+    //ya, nukta and the precomposed yya, য় is written either way
+    private static final char BN_YA = '\u09AF';
+    private static final char BN_NUKTA = '\u09BC';
+    private static final char BN_YYA = '\u09DF';
+
+    private static final String[] EN_MONTHS = {"january", "february", "march", "april", "may", "june",
+            "july", "august", "september", "october", "november", "december"};
+    private static final String[] CALENDAR_SUFFIXES = {"লা", "রা", "ঠা", "ই", "শে", "তম", "st", "nd", "rd", "th"};
+
+    //keys are lower case, EN-US upper case text falls back to them
+    private static final CharTrie<Integer> MONTH_NAMES = buildMonthNames();
+    private static final CharTrie<Integer> SUFFIXES = buildSuffixes();
+
+    private BanglaDateParser() {
+    }
+
+    /**
+     * Reusable parse result, holds the date on OK or the failure status.
+     */
+    public static final class Result {
+        private int status = EMPTY;
+        private int year;
+        private int month;
+        private int day;
+
+        public int getStatus() {
+            return status;
+        }
+
+        public boolean isValid() {
+            return status == OK;
+        }
+
+        public int getYear() {
+            return year;
+        }
+
+        /*
+        * @return month 1-12
+        */
+        public int getMonth() {
+            return month;
+        }
+
+        public int getDay() {
+            return day;
+        }
+
+        /*
+        * @return days since 1970-01-01, only meaningful when valid
+        */
+        public long getEpochDay() {
+            return CivilDate.toEpochDay(year, month, day);
+        }
+
+        private boolean fail(final int status) {
+            this.status = status;
+            return false;
+        }
+    }
+
+    /*
+    * @param date in bangla or EN-US
+    * @param result filled with the date or the failure status
+    * @return true when a valid date was parsed
+    */
+    public static boolean parse(final CharSequence text, final Result result) {
+        int length = text.length();
+        int position = skipSeparators(text, 0);
+        if (position == length) {
+            return result.fail(EMPTY);
+        }
+
+        int start = position;
+        int first = 0;
+        position = readNumber(text, position);
+        int firstDigits = position - start;
+        for (int i = start; i < start + Math.min(firstDigits, MAX_YEAR_DIGITS); i++) {
+            first = first * 10 + BanglaDigits.value(text.charAt(i));
+        }
+
+        if (firstDigits > MAX_YEAR_DIGITS) {
+            return result.fail(INVALID_YEAR);
+        }
+        if (firstDigits >= 3) {
+            return parseYearFirst(text, position, first, result);
+        }
+        if (firstDigits == 0) {
+            return result.fail(INVALID_DAY);
+        }
+        int day = first;
+
+        CharTrie.Node<Integer> suffix = SUFFIXES.match(text, position);
+        if (suffix != null) {
+            position += suffix.getLength();
+        }
+        if (position < length && !isSeparator(text.charAt(position))) {
+            return result.fail(INVALID_DAY);
+        }
+        position = skipSeparators(text, position);
+
+        int month;
+        CharTrie.Node<Integer> monthName = MONTH_NAMES.match(text, position);
+        if (monthName != null) {
+            month = monthName.getValue();
+            position += monthName.getLength();
+        } else {
+            start = position;
+            month = 0;
+            while (position < length && BanglaDigits.value(text.charAt(position)) >= 0 && position - start < 2) {
+                month = month * 10 + BanglaDigits.value(text.charAt(position++));
+            }
+            if (position == start) {
+                return result.fail(INVALID_MONTH);
+            }
+        }
+        if (position < length && !isSeparator(text.charAt(position))) {
+            return result.fail(INVALID_MONTH);
+        }
+        position = skipSeparators(text, position);
+
+        start = position;
+        position = readNumber(text, position);
+        if (position == start || position - start > MAX_YEAR_DIGITS) {
+            return result.fail(INVALID_YEAR);
+        }
+        int year = 0;
+        for (int i = start; i < position; i++) {
+            year = year * 10 + BanglaDigits.value(text.charAt(i));
+        }
+
+        return finish(text, position, year, month, day, result);
+    }
+
+    /*
+    * @param date in bangla or EN-US
+    * @return days since 1970-01-01
+    * @throws IllegalArgumentException when the text is not a valid date
+    */
+    public static long parseEpochDay(final CharSequence text) {
+        Result result = new Result();
+        if (!parse(text, result)) {
+            throw new IllegalArgumentException("Wrong Format");
+        }
+        return result.getEpochDay();
+    }
+
+    /*
+    * yyyy-MM-dd, the year has already been read
+    */
+    private static boolean parseYearFirst(final CharSequence text, int position, final int year, final Result result) {
+        int length = text.length();
+        int month = 0;
+        int day = 0;
+        for (int part = 0; part < 2; part++) {
+            int status = part == 0 ? INVALID_MONTH : INVALID_DAY;
+            if (position == length || !isSeparator(text.charAt(position))) {
+                return result.fail(status);
+            }
+            position = skipSeparators(text, position);
+            int start = position;
+            int value = 0;
+            while (position < length && BanglaDigits.value(text.charAt(position)) >= 0 && position - start < 2) {
+                value = value * 10 + BanglaDigits.value(text.charAt(position++));
+            }
+            if (position == start) {
+                return result.fail(status);
+            }
+            if (part == 0) {
+                month = value;
+            } else {
+                day = value;
+            }
+        }
+        return finish(text, position, year, month, day, result);
+    }
+
+    private static boolean finish(final CharSequence text, int position, final int year, final int month,
+                                  final int day, final Result result) {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+        if (position < text.length()) {
+            return result.fail(UNEXPECTED_TEXT);
+        }
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            return result.fail(INVALID_YEAR);
+        }
+        if (month < 1 || month > 12) {
+            return result.fail(INVALID_MONTH);
+        }
+        if (day < 1 || day > CivilDate.lengthOfMonth(year, month)) {
+            return result.fail(day < 1 || day > 31 ? INVALID_DAY : INVALID_DATE);
+        }
+        result.status = OK;
+        result.year = year;
+        result.month = month;
+        result.day = day;
+        return true;
+    }
+
+    /*
+    * @return position after the digits starting at position
+    */
+    private static int readNumber(final CharSequence text, int position) {
+        while (position < text.length() && BanglaDigits.value(text.charAt(position)) >= 0) {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isSeparator(final char c) {
+        return c == ',' || c == '-' || c == '/' || c == '.' || Character.isWhitespace(c);
+    }
+
+    private static int skipSeparators(final CharSequence text, int position) {
+        while (position < text.length() && isSeparator(text.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static CharTrie<Integer> buildMonthNames() {
+        CharTrie<Integer> trie = new CharTrie<>();
+        for (int i = 0; i < ToBangla.MONTHS.length; i++) {
+            String name = ToBangla.MONTHS[i];
+            addSpellings(trie, name, i + 1);
+            //ী and ি endings are both in common use
+            char last = name.charAt(name.length() - 1);
+            if (last == 'ী' || last == 'ি') {
+                addSpellings(trie, name.substring(0, name.length() - 1) + (last == 'ী' ? 'ি' : 'ী'), i + 1);
+            }
+            trie.add(EN_MONTHS[i], i + 1);
+            trie.add(EN_MONTHS[i].substring(0, 3), i + 1);
+        }
+        addSpellings(trie, "আগস্ট", 8);
+        trie.add("sept", 9);
+        return trie;
+    }
+
+    /*
+    * য় is written either precomposed or as য + nukta
+    */
+    private static void addSpellings(final CharTrie<Integer> trie, final String name, final int value) {
+        trie.add(name, value);
+        trie.add(name.replace(String.valueOf(BN_YA) + BN_NUKTA, String.valueOf(BN_YYA)), value);
+        trie.add(name.replace(String.valueOf(BN_YYA), String.valueOf(BN_YA) + BN_NUKTA), value);
+    }
+
+    private static CharTrie<Integer> buildSuffixes() {
+        CharTrie<Integer> trie = new CharTrie<>();
+        for (String suffix : CALENDAR_SUFFIXES) {
+            trie.add(suffix, 1);
+        }
+        return trie;
+    }
+}
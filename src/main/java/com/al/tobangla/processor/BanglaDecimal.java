@@ -0,0 +1,310 @@
+package com.al.tobangla.processor;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * double / float formatting written as bangla digits straight into an Appendable, without
+ * going through Double.toString or String.format first.
+ * <p>
+ * Shortest formatting emits the fewest digits that parse back to the same double or float,
+ * large integral values get their trailing digits rounded to zeros and -0.0 is written as
+ * ০. Fixed formatting rounds the exact value of the double half up to a scale, as
+ * new BigDecimal(value).setScale(scale, RoundingMode.HALF_UP) does, so 66.0325, stored as
+ * 66.03249999..., is ৬৬.০৩২ at scale 3. Percent formatting rounds the ratio times 100 the same
+ * way and appends '%'. Values too large for the long arithmetic, and the rare ones whose
+ * scaled double lands too close to a half to tell, fall back to BigDecimal.
+ */
+public final class BanglaDecimal {
+
+    private static final int MAX_SCALE = 17;
+    //doubles below 2^53 have an exact long counterpart, so the round trip check is exact
+    private static final double EXACT_LIMIT = 9007199254740992d;
+    //floats from 2^24 on are integers with gaps, their trailing digits may be rounded away
+    private static final float FLOAT_EXACT_LIMIT = 16777216f;
+    private static final double LONG_LIMIT = 9.2e18;
+    //below 2^52 halves are exact doubles, so the fraction of a scaled value can be compared to one
+    private static final double HALF_EXACT_LIMIT = 4503599627370496d;
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private static final String NAN = "NaN";
+    private static final String INFINITY = "∞";
+
+    private BanglaDecimal() {
+    }
+
+    /*
+    * @param value
+    * @return shortest decimal that round trips, in bangla digits
+    */
+    public static String format(final double value) {
+        StringBuilder out = new StringBuilder(24);
+        appendShortest(value, out);
+        return out.toString();
+    }
+
+    /*
+    * @param value
+    * @return shortest decimal that round trips as a float, in bangla digits
+    */
+    public static String format(final float value) {
+        StringBuilder out = new StringBuilder(16);
+        appendShortest(value, out);
+        return out.toString();
+    }
+
+    /*
+    * @param value
+    * @param number of fraction digits, 0-17
+    * @return value rounded half up, in bangla digits
+    */
+    public static String formatFixed(final double value, final int scale) {
+        StringBuilder out = new StringBuilder(24);
+        appendFixed(value, scale, out);
+        return out.toString();
+    }
+
+    /*
+    * @param ratio, 0.125 is ১২.৫%
+    * @param number of fraction digits of the percentage, 0-17
+    * @return percentage in bangla digits
+    */
+    public static String formatPercent(final double ratio, final int scale) {
+        StringBuilder out = new StringBuilder(24);
+        appendPercent(ratio, scale, out);
+        return out.toString();
+    }
+
+    public static void appendShortest(final double value, final StringBuilder out) {
+        try {
+            appendShortest(value, (Appendable) out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //without it appendShortest(float, StringBuilder) would match both the double and the
+    //Appendable overload and not compile
+    public static void appendShortest(final float value, final StringBuilder out) {
+        try {
+            appendShortest(value, (Appendable) out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void appendFixed(final double value, final int scale, final StringBuilder out) {
+        try {
+            appendFixed(value, scale, (Appendable) out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void appendPercent(final double ratio, final int scale, final StringBuilder out) {
+        try {
+            appendPercent(ratio, scale, (Appendable) out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /*
+    * @param value
+    * @param appendable the shortest round trip decimal is written to
+    */
+    public static void appendShortest(final double value, final Appendable out) throws IOException {
+        if (appendSpecial(value, out)) {
+            return;
+        }
+        double magnitude = Math.abs(value);
+        for (int scale = 0; scale <= MAX_SCALE; scale++) {
+            double scaled = magnitude * POWERS_OF_TEN[scale];
+            if (scaled >= EXACT_LIMIT) {
+                //integral from here on, or beyond what long arithmetic can check
+                if (scale == 0 && magnitude < LONG_LIMIT) {
+                    appendDigits(value < 0, shortestIntegral((long) magnitude, magnitude), 0, out);
+                    return;
+                }
+                break;
+            }
+            long digits = Math.round(scaled);
+            if (digits / (double) POWERS_OF_TEN[scale] == magnitude) {
+                appendDigits(value < 0, digits, scale, out);
+                return;
+            }
+        }
+        appendBig(new BigDecimal(Double.toString(value)), out);
+    }
+
+    /*
+    * @param value
+    * @param appendable the shortest round trip decimal is written to
+    */
+    public static void appendShortest(final float value, final Appendable out) throws IOException {
+        if (appendSpecial(value, out)) {
+            return;
+        }
+        float magnitude = Math.abs(value);
+        for (int scale = 0; scale <= MAX_SCALE; scale++) {
+            double scaled = (double) magnitude * POWERS_OF_TEN[scale];
+            if (scaled >= EXACT_LIMIT) {
+                if (scale == 0 && magnitude < LONG_LIMIT) {
+                    appendDigits(value < 0, shortestIntegral((long) magnitude, magnitude), 0, out);
+                    return;
+                }
+                break;
+            }
+            long digits = Math.round(scaled);
+            if ((float) (digits / (double) POWERS_OF_TEN[scale]) == magnitude) {
+                if (magnitude >= FLOAT_EXACT_LIMIT) {
+                    digits = shortestIntegral(digits, magnitude);
+                }
+                appendDigits(value < 0, digits, scale, out);
+                return;
+            }
+        }
+        appendBig(new BigDecimal(Float.toString(value)), out);
+    }
+
+    /*
+    * @param value
+    * @param number of fraction digits, 0-17
+    * @param appendable the value rounded half up is written to
+    */
+    public static void appendFixed(final double value, final int scale, final Appendable out) throws IOException {
+        appendRounded(value, scale, 0, out);
+    }
+
+    /*
+    * @param ratio, 0.125 is ১২.৫%
+    * @param number of fraction digits of the percentage, 0-17
+    * @param appendable the percentage is written to
+    */
+    public static void appendPercent(final double ratio, final int scale, final Appendable out) throws IOException {
+        appendRounded(ratio, scale, 2, out);
+        if (!Double.isNaN(ratio)) {
+            out.append('%');
+        }
+    }
+
+    /*
+    * Writes value * 10^shift rounded half up to scale fraction digits
+    */
+    private static void appendRounded(final double value, final int scale, final int shift,
+                                      final Appendable out) throws IOException {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("scale " + scale);
+        }
+        if (appendSpecial(value, out)) {
+            return;
+        }
+        if (scale + shift < POWERS_OF_TEN.length) {
+            //10^n is an exact double up to 10^22, so scaled is the exact product rounded once
+            double scaled = Math.abs(value) * POWERS_OF_TEN[scale + shift];
+            if (scaled < HALF_EXACT_LIMIT) {
+                //off by at most half an ulp, only a fraction that close to .5 can round the other way
+                double fraction = scaled - Math.floor(scaled);
+                if (Math.abs(fraction - 0.5) > Math.ulp(scaled)) {
+                    long digits = Math.round(scaled);
+                    appendDigits(value < 0 && digits != 0, digits, scale, out);
+                    return;
+                }
+            }
+        }
+        appendBig(new BigDecimal(value).movePointRight(shift).setScale(scale, RoundingMode.HALF_UP), out);
+    }
+
+    /*
+    * @param integral value of a double beyond 2^53
+    * @return the value with as many trailing digits zeroed as still parse back to it
+    */
+    private static long shortestIntegral(final long integral, final double magnitude) {
+        for (int zeros = BanglaDigits.length(integral) - 1; zeros > 0; zeros--) {
+            long rounded = roundToZeros(integral, zeros);
+            if (rounded >= 0 && (double) rounded == magnitude) {
+                return rounded;
+            }
+        }
+        return integral;
+    }
+
+    /*
+    * @param integral value of a float beyond 2^24
+    * @return the value with as many trailing digits zeroed as still parse back to it
+    */
+    private static long shortestIntegral(final long integral, final float magnitude) {
+        for (int zeros = BanglaDigits.length(integral) - 1; zeros > 0; zeros--) {
+            long rounded = roundToZeros(integral, zeros);
+            if (rounded >= 0 && (float) rounded == magnitude) {
+                return rounded;
+            }
+        }
+        return integral;
+    }
+
+    /*
+    * @return integral rounded half up to a multiple of 10^zeros, -1 when that overflows
+    */
+    private static long roundToZeros(final long integral, final int zeros) {
+        long unit = POWERS_OF_TEN[zeros];
+        long quotient = integral / unit;
+        if (integral % unit >= unit / 2) {
+            quotient++;
+        }
+        return quotient > Long.MAX_VALUE / unit ? -1 : quotient * unit;
+    }
+
+    /*
+    * @return true when NaN or infinity was written
+    */
+    private static boolean appendSpecial(final double value, final Appendable out) throws IOException {
+        if (Double.isNaN(value)) {
+            out.append(NAN);
+            return true;
+        }
+        if (Double.isInfinite(value)) {
+            if (value < 0) {
+                out.append('-');
+            }
+            out.append(INFINITY);
+            return true;
+        }
+        return false;
+    }
+
+    /*
+    * Writes digits / 10^scale with at least one digit before the decimal point
+    */
+    private static void appendDigits(final boolean negative, final long digits, final int scale,
+                                     final Appendable out) throws IOException {
+        if (negative) {
+            out.append('-');
+        }
+        int length = Math.max(BanglaDigits.length(digits), scale + 1);
+        for (int position = length - 1; position >= 0; position--) {
+            if (position == scale - 1) {
+                out.append('.');
+            }
+            int digit = position < POWERS_OF_TEN.length ? (int) (digits / POWERS_OF_TEN[position] % 10) : 0;
+            out.append((char) (BanglaDigits.ZERO + digit));
+        }
+    }
+
+    private static void appendBig(final BigDecimal value, final Appendable out) throws IOException {
+        String plain = value.toPlainString();
+        for (int i = 0; i < plain.length(); i++) {
+            char c = plain.charAt(i);
+            out.append(c >= '0' && c <= '9' ? (char) (BanglaDigits.ZERO + c - '0') : c);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.al.tobangla.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Read only view of a CharSequence with its EN-US digits shown as bangla digits.
+ * <p>
+ * Digits are mapped on access in charAt, subSequence shares the source and getChars and
+ * writeTo convert only the requested range, chunk by chunk. Those cost what they read.
+ * toString copies the whole text, and so do TextView.setText and Writer.append, which
+ * call it; write large texts with writeTo instead. The view reflects later changes of
+ * a mutable source.
+ */
+public final class BanglaDigitSequence implements CharSequence {
+
+    private static final int DIGIT_SHIFT = BanglaDigits.ZERO - '0';
+    private static final int WRITE_CHUNK = 1024;
+
+    private final CharSequence source;
+    private final int start;
+    private final int end;
+
+    /*
+    * @param text with EN-US digits
+    */
+    public BanglaDigitSequence(final CharSequence source) {
+        this(source, 0, source.length());
+    }
+
+    private BanglaDigitSequence(final CharSequence source, final int start, final int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= end - start) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + (end - start));
+        }
+        char c = source.charAt(start + index);
+        return c >= '0' && c <= '9' ? (char) (c + DIGIT_SHIFT) : c;
+    }
+
+    @Override
+    public CharSequence subSequence(final int from, final int to) {
+        if (from < 0 || to > end - start || from > to) {
+            throw new IndexOutOfBoundsException("from " + from + ", to " + to + ", length " + (end - start));
+        }
+        return new BanglaDigitSequence(source, start + from, start + to);
+    }
+
+    /*
+    * Copies converted chars, same contract as String.getChars
+    * @param first index to copy
+    * @param index after the last one to copy
+    * @param destination buffer
+    * @param position in the destination
+    */
+    public void getChars(final int from, final int to, final char[] dest, final int destOffset) {
+        if (from < 0 || to > end - start || from > to) {
+            throw new IndexOutOfBoundsException("from " + from + ", to " + to + ", length " + (end - start));
+        }
+        if (source instanceof String) {
+            ((String) source).getChars(start + from, start + to, dest, destOffset);
+        } else if (source instanceof StringBuilder) {
+            ((StringBuilder) source).getChars(start + from, start + to, dest, destOffset);
+        } else {
+            for (int i = from; i < to; i++) {
+                dest[destOffset + i - from] = source.charAt(start + i);
+            }
+        }
+        ToBangla.getInstance().convertDigits(dest, destOffset, to - from);
+    }
+
+    /*
+    * Writes the converted text in chunks, without materializing it
+    * @param writer to write into
+    */
+    public void writeTo(final Writer writer) throws IOException {
+        char[] buffer = new char[Math.min(WRITE_CHUNK, length())];
+        for (int from = 0; from < length(); from += buffer.length) {
+            int to = Math.min(length(), from + buffer.length);
+            getChars(from, to, buffer, 0);
+            writer.write(buffer, 0, to - from);
+        }
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[length()];
+        getChars(0, chars.length, chars, 0);
+        return new String(chars);
+    }
+}
@@ -0,0 +1,73 @@
+package com.al.tobangla.processor;
+
+/**
+ * Writes numbers as bangla digits straight into char buffers, and reads digits of
+ * either script back.
+ */
+final class BanglaDigits {
+
+    static final char ZERO = '০';
+
+    private BanglaDigits() {
+    }
+
+    /*
+    * @return value of a bangla or EN-US digit, -1 for anything else
+    */
+    static int value(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= ZERO && c <= ZERO + 9) {
+            return c - ZERO;
+        }
+        return -1;
+    }
+
+    /*
+    * @param value 0-99, written with a leading zero below 10
+    * @return offset after the written digits
+    */
+    static int writeTwoDigits(final int value, final char[] dest, int offset) {
+        dest[offset++] = (char) (ZERO + value / 10);
+        dest[offset++] = (char) (ZERO + value % 10);
+        return offset;
+    }
+
+    /*
+    * @param value written without padding, negative values get a leading '-'
+    * @return offset after the written digits
+    */
+    static int write(long value, final char[] dest, int offset) {
+        if (value < 0) {
+            dest[offset++] = '-';
+            if (value == Long.MIN_VALUE) {
+                //no positive counterpart, the last digit is written separately
+                offset = write(-(value / 10), dest, offset);
+                dest[offset++] = (char) (ZERO + 8);
+                return offset;
+            }
+            value = -value;
+        }
+        int end = offset + length(value);
+        int position = end;
+        do {
+            dest[--position] = (char) (ZERO + (int) (value % 10));
+            value /= 10;
+        } while (value != 0);
+        return end;
+    }
+
+    /*
+    * @param non negative value
+    * @return number of digits
+    */
+    static int length(long value) {
+        int length = 1;
+        while (value >= 10) {
+            value /= 10;
+            length++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,90 @@
+package com.al.tobangla.processor;
+
+import java.text.DateFormatSymbols;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+
+/**
+ * Bangla symbols for the java.text formatters, so DecimalFormat and SimpleDateFormat
+ * emit Bangla digits, month and day names in a single pass instead of being
+ * formatted in EN-US and converted afterwards.
+ * <p>
+ * Android does not load java.util.spi locale providers, the symbols are handed to
+ * the formatters directly instead. On the JVM, jvm/core registers them as java.text.spi
+ * providers for bn-BD.
+ */
+public final class BanglaLocale {
+
+    public static final Locale BN_BD = new Locale("bn", "BD");
+
+    private static final char ZERO_DIGIT = '০';
+    private static final String[] AM_PM = {"পূর্বাহ্ণ", "অপরাহ্ণ"};
+
+    private static final DecimalFormatSymbols DECIMAL_FORMAT_SYMBOLS = createDecimalFormatSymbols();
+    private static final DateFormatSymbols DATE_FORMAT_SYMBOLS = createDateFormatSymbols();
+
+    private BanglaLocale() {
+    }
+
+    /*
+    * @return symbols with bangla zero digit, callers get their own copy
+    */
+    public static DecimalFormatSymbols getDecimalFormatSymbols() {
+        return (DecimalFormatSymbols) DECIMAL_FORMAT_SYMBOLS.clone();
+    }
+
+    /*
+    * @return symbols with bangla month, weekday and am/pm names, callers get their own copy
+    */
+    public static DateFormatSymbols getDateFormatSymbols() {
+        return (DateFormatSymbols) DATE_FORMAT_SYMBOLS.clone();
+    }
+
+    /*
+    * @param DecimalFormat pattern e.g. #,##0.00
+    * @return formatter writing bangla digits
+    */
+    public static DecimalFormat newDecimalFormat(final String pattern) {
+        return new DecimalFormat(pattern, getDecimalFormatSymbols());
+    }
+
+    /*
+    * @param SimpleDateFormat pattern e.g. dd MMMM yyyy, EEEE
+    * @return formatter writing bangla digits, month and day names
+    */
+    public static SimpleDateFormat newSimpleDateFormat(final String pattern) {
+        SimpleDateFormat format = new SimpleDateFormat(pattern, getDateFormatSymbols());
+
+        DecimalFormat numberFormat = new DecimalFormat("0", getDecimalFormatSymbols());
+        numberFormat.setGroupingUsed(false);
+        numberFormat.setParseIntegerOnly(true);
+        format.setNumberFormat(numberFormat);
+
+        return format;
+    }
+
+    private static DecimalFormatSymbols createDecimalFormatSymbols() {
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.US);
+        symbols.setZeroDigit(ZERO_DIGIT);
+        return symbols;
+    }
+
+    private static DateFormatSymbols createDateFormatSymbols() {
+        DateFormatSymbols symbols = new DateFormatSymbols(Locale.US);
+
+        symbols.setMonths(ToBangla.MONTHS.clone());
+        symbols.setShortMonths(ToBangla.MONTHS.clone());
+
+        //weekday arrays are indexed by Calendar.SUNDAY (1) to Calendar.SATURDAY (7)
+        String[] weekdays = new String[ToBangla.DAYS.length + 1];
+        weekdays[0] = "";
+        System.arraycopy(ToBangla.DAYS, 0, weekdays, 1, ToBangla.DAYS.length);
+        symbols.setWeekdays(weekdays);
+        symbols.setShortWeekdays(weekdays.clone());
+
+        symbols.setAmPmStrings(AM_PM.clone());
+        return symbols;
+    }
+}
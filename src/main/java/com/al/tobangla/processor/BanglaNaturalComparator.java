@@ -0,0 +1,106 @@
+package com.al.tobangla.processor;
+
+import java.util.Comparator;
+
+/**
+ * Natural order for text containing bangla or EN-US digits: digit runs are compared by
+ * their numeric value in place, so "২" sorts before "১০" and "০৭" equals "7".
+ * Other characters compare by their char value. Nothing is allocated or converted
+ * while comparing.
+ * <p>
+ * normalize gives the matching key for hash based indexes: two texts compare equal
+ * exactly when their keys are equal.
+ */
+public final class BanglaNaturalComparator implements Comparator<CharSequence> {
+
+    public static final BanglaNaturalComparator INSTANCE = new BanglaNaturalComparator();
+
+    private BanglaNaturalComparator() {
+    }
+
+    @Override
+    public int compare(final CharSequence left, final CharSequence right) {
+        int leftLength = left.length();
+        int rightLength = right.length();
+        int i = 0;
+        int j = 0;
+
+        while (i < leftLength && j < rightLength) {
+            int leftDigit = BanglaDigits.value(left.charAt(i));
+            int rightDigit = BanglaDigits.value(right.charAt(j));
+
+            if (leftDigit >= 0 && rightDigit >= 0) {
+                //leading zeros don't change the value
+                while (i < leftLength && BanglaDigits.value(left.charAt(i)) == 0) {
+                    i++;
+                }
+                while (j < rightLength && BanglaDigits.value(right.charAt(j)) == 0) {
+                    j++;
+                }
+                int leftEnd = runEnd(left, i);
+                int rightEnd = runEnd(right, j);
+
+                //more significant digits is the larger number
+                if (leftEnd - i != rightEnd - j) {
+                    return (leftEnd - i) - (rightEnd - j);
+                }
+                for (; i < leftEnd; i++, j++) {
+                    int difference = BanglaDigits.value(left.charAt(i)) - BanglaDigits.value(right.charAt(j));
+                    if (difference != 0) {
+                        return difference;
+                    }
+                }
+                continue;
+            }
+
+            char leftChar = leftDigit >= 0 ? (char) ('0' + leftDigit) : left.charAt(i);
+            char rightChar = rightDigit >= 0 ? (char) ('0' + rightDigit) : right.charAt(j);
+            if (leftChar != rightChar) {
+                return leftChar - rightChar;
+            }
+            i++;
+            j++;
+        }
+        return (leftLength - i) - (rightLength - j);
+    }
+
+    /*
+    * Canonical key, EN-US digits without leading zeros
+    * @param text with bangla or EN-US digits
+    * @return key equal for texts comparing equal
+    */
+    public static String normalize(final CharSequence text) {
+        StringBuilder key = new StringBuilder(text.length());
+        normalize(text, key);
+        return key.toString();
+    }
+
+    /*
+    * @param text with bangla or EN-US digits
+    * @param builder the key is appended to, can be reused between calls
+    */
+    public static void normalize(final CharSequence text, final StringBuilder key) {
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            if (BanglaDigits.value(text.charAt(i)) < 0) {
+                key.append(text.charAt(i++));
+                continue;
+            }
+            int end = runEnd(text, i);
+            while (i < end - 1 && BanglaDigits.value(text.charAt(i)) == 0) {
+                i++;
+            }
+            for (; i < end; i++) {
+                key.append((char) ('0' + BanglaDigits.value(text.charAt(i))));
+            }
+        }
+    }
+
+    private static int runEnd(final CharSequence text, int position) {
+        while (position < text.length() && BanglaDigits.value(text.charAt(position)) >= 0) {
+            position++;
+        }
+        return position;
+    }
+}
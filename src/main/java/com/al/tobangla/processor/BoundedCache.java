@@ -0,0 +1,35 @@
+package com.al.tobangla.processor;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread safe cache of rendered or compiled values that is emptied when it gets full.
+ * Clearing costs a few misses where an LRU would cost a lock or a linked entry on every
+ * hit, fine for values that are cheap to rebuild and usually far fewer than the limit.
+ */
+final class BoundedCache<K, V> {
+
+    private final ConcurrentHashMap<K, V> map = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    /*
+    * @param number of values kept before the cache is emptied
+    */
+    BoundedCache(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /*
+    * @return cached value, null when there is none
+    */
+    V get(final K key) {
+        return map.get(key);
+    }
+
+    void put(final K key, final V value) {
+        if (map.size() >= maxSize) {
+            map.clear();
+        }
+        map.put(key, value);
+    }
+}
@@ -0,0 +1,23 @@
+package com.al.tobangla.processor;
+
+/**
+ * Stage converting every character on its own. Consecutive char stages of a
+ * ConversionPipeline run together in one pass over the text.
+ */
+public abstract class CharConverterStage implements ConverterStage {
+
+    /*
+    * @param character to convert
+    * @return converted character, or the same one
+    */
+    public abstract char map(char c);
+
+    @Override
+    public String convert(final String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = map(chars[i]);
+        }
+        return new String(chars);
+    }
+}
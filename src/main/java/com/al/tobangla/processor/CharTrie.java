@@ -0,0 +1,95 @@
+package com.al.tobangla.processor;
+
+/**
+ * Char trie finding the longest key at a position of a text, filled once and only read
+ * afterwards, so a built trie can be shared between threads. An EN-US upper case char
+ * without a child of its own follows the child of its lower case.
+ */
+final class CharTrie<V> {
+
+    private final Node<V> root = new Node<>(0);
+
+    void add(final String key, final V value) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.create(key.charAt(i));
+        }
+        node.value = value;
+    }
+
+    /*
+    * @return node of the longest key starting at position, null when no key matches
+    */
+    Node<V> match(final CharSequence text, final int position) {
+        Node<V> node = root;
+        Node<V> matched = null;
+        for (int i = position; i < text.length(); i++) {
+            node = node.child(text.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.value != null) {
+                matched = node;
+            }
+        }
+        return matched;
+    }
+
+    static final class Node<V> {
+        private final int length;
+        private char[] keys = new char[0];
+        private Object[] children = new Object[0];
+        private V value;
+
+        private Node(final int length) {
+            this.length = length;
+        }
+
+        /*
+        * @return length of the key ending at this node
+        */
+        int getLength() {
+            return length;
+        }
+
+        V getValue() {
+            return value;
+        }
+
+        private Node<V> child(final char key) {
+            Node<V> child = find(key);
+            if (child == null && key >= 'A' && key <= 'Z') {
+                child = find((char) (key + ('a' - 'A')));
+            }
+            return child;
+        }
+
+        private Node<V> create(final char key) {
+            Node<V> child = find(key);
+            if (child != null) {
+                return child;
+            }
+            int size = keys.length;
+            char[] newKeys = new char[size + 1];
+            Object[] newChildren = new Object[size + 1];
+            System.arraycopy(keys, 0, newKeys, 0, size);
+            System.arraycopy(children, 0, newChildren, 0, size);
+            child = new Node<>(length + 1);
+            newKeys[size] = key;
+            newChildren[size] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Node<V> find(final char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return (Node<V>) children[i];
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.al.tobangla.processor;
+
+/**
+ * Proleptic gregorian date arithmetic on epoch days, used instead of allocating
+ * a Calendar for every converted timestamp.
+ * Dates are packed into an int as year << 9 | month << 5 | day.
+ */
+final class CivilDate {
+
+    static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    private CivilDate() {
+    }
+
+    static long floorDiv(long x, long y) {
+        long q = x / y;
+        if ((x % y != 0) && ((x ^ y) < 0)) {
+            q--;
+        }
+        return q;
+    }
+
+    static long floorMod(long x, long y) {
+        return x - floorDiv(x, y) * y;
+    }
+
+    /*
+    * @param epoch millis
+    * @param offset of the local zone from UTC in millis
+    * @return local epoch day
+    */
+    static long epochDay(long epochMillis, int offsetMillis) {
+        return floorDiv(epochMillis + offsetMillis, MILLIS_PER_DAY);
+    }
+
+    /*
+    * @param local epoch day
+    * @return packed year, month (1-12) and day (1-31)
+    */
+    static int fromEpochDay(long epochDay) {
+        long z = epochDay + 719468;
+        long era = floorDiv(z, 146097);
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        int year = (int) (yoe + era * 400 + (month <= 2 ? 1 : 0));
+        return pack(year, month, day);
+    }
+
+    /*
+    * @param year, month (1-12) and day (1-31)
+    * @return epoch day
+    */
+    static long toEpochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = floorDiv(y, 400);
+        long yoe = y - era * 400;
+        long doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    /*
+    * @return 0 for Sunday to 6 for Saturday
+    */
+    static int dayOfWeek(long epochDay) {
+        //1970-01-01 was a Thursday
+        return (int) floorMod(epochDay + 4, 7);
+    }
+
+    static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    static int pack(int year, int month, int day) {
+        return year << 9 | month << 5 | day;
+    }
+
+    static int year(int packed) {
+        return packed >> 9;
+    }
+
+    static int month(int packed) {
+        return (packed >> 5) & 15;
+    }
+
+    static int day(int packed) {
+        return packed & 31;
+    }
+}
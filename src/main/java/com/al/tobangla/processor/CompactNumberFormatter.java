@@ -0,0 +1,157 @@
+package com.al.tobangla.processor;
+
+import java.math.RoundingMode;
+
+/**
+ * Compact South-Asian style numbers in bangla, e.g. "১২ হাজার", "৩.৫ লাখ", "২ কোটি".
+ * <p>
+ * Values are scaled to হাজার (thousand), লাখ (hundred thousand) or কোটি (ten million)
+ * and rounded to the configured fraction digits. Rendered strings are cached per unit and
+ * rounded value, so every row showing the same compact figure shares one instance.
+ * Instances are thread safe.
+ */
+public class CompactNumberFormatter {
+
+    private static final String[] UNITS = {"", " হাজার", " লাখ", " কোটি"};
+    private static final long[] UNIT_SIZES = {1, 1000, 100000, 10000000};
+    private static final long[] POWERS_OF_TEN = {1, 10, 100};
+
+    private static final int MAX_FRACTION_DIGITS = 2;
+    private static final int CACHE_SIZE = 1024;
+
+    private static final CompactNumberFormatter INSTANCE = new CompactNumberFormatter(1, RoundingMode.HALF_UP);
+
+    private final int fractionDigits;
+    private final RoundingMode roundingMode;
+    private final BoundedCache<Long, String> cache = new BoundedCache<>(CACHE_SIZE);
+
+    /*
+    * @param fraction digits kept after scaling, 0-2, trailing zeros are dropped
+    * @param one of HALF_UP, HALF_EVEN, DOWN or UP
+    */
+    public CompactNumberFormatter(final int fractionDigits, final RoundingMode roundingMode) {
+        if (fractionDigits < 0 || fractionDigits > MAX_FRACTION_DIGITS) {
+            throw new IllegalArgumentException("fractionDigits " + fractionDigits);
+        }
+        if (roundingMode != RoundingMode.HALF_UP && roundingMode != RoundingMode.HALF_EVEN
+                && roundingMode != RoundingMode.DOWN && roundingMode != RoundingMode.UP) {
+            throw new IllegalArgumentException("roundingMode " + roundingMode);
+        }
+        this.fractionDigits = fractionDigits;
+        this.roundingMode = roundingMode;
+    }
+
+    /*
+    * @return formatter with one fraction digit, rounding half up
+    */
+    public static CompactNumberFormatter getInstance() {
+        return INSTANCE;
+    }
+
+    /*
+    * @param number with EN-US or bangla digits, ',' separators are ignored
+    * @return compact value in bangla, the text with bangla digits when it is not a whole
+    * number, e.g. "১.৫"
+    */
+    public String format(final String number) {
+        int length = number.length();
+        int position = 0;
+        boolean negative = length > 0 && number.charAt(0) == '-';
+        if (negative) {
+            position++;
+        }
+        long value = 0;
+        int digits = 0;
+        for (; position < length; position++) {
+            char c = number.charAt(position);
+            int digit = BanglaDigits.value(c);
+            if (digit >= 0) {
+                if (++digits > 18) {
+                    return DigitScript.BANGLA.convert(number);
+                }
+                value = value * 10 + digit;
+            } else if (c != ',') {
+                return DigitScript.BANGLA.convert(number);
+            }
+        }
+        return digits == 0 ? number : format(negative ? -value : value);
+    }
+
+    /*
+    * @param value
+    * @return compact value in bangla
+    */
+    public String format(final long value) {
+        boolean negative = value < 0;
+        //Long.MIN_VALUE has no positive counterpart, one less makes no visible difference
+        long magnitude = value == Long.MIN_VALUE ? Long.MAX_VALUE : Math.abs(value);
+
+        int unit = UNITS.length - 1;
+        while (unit > 0 && magnitude < UNIT_SIZES[unit]) {
+            unit--;
+        }
+        int digits = unit == 0 ? 0 : fractionDigits;
+        long scaled = round(magnitude, UNIT_SIZES[unit] / POWERS_OF_TEN[digits]);
+
+        //rounding up can reach the next unit, 99,999 is ১ লাখ and not ১০০ হাজার
+        if (unit < UNITS.length - 1
+                && scaled >= UNIT_SIZES[unit + 1] / UNIT_SIZES[unit] * POWERS_OF_TEN[digits]) {
+            unit++;
+            digits = fractionDigits;
+            scaled = round(magnitude, UNIT_SIZES[unit] / POWERS_OF_TEN[digits]);
+        }
+
+        //drop trailing fraction zeros, ২.০ কোটি is ২ কোটি
+        while (digits > 0 && scaled % 10 == 0) {
+            scaled /= 10;
+            digits--;
+        }
+
+        Long key = ((scaled * (MAX_FRACTION_DIGITS + 1) + digits) * UNITS.length + unit) * 2 + (negative ? 1 : 0);
+        String text = cache.get(key);
+        if (text == null) {
+            text = render(negative, scaled, digits, unit);
+            cache.put(key, text);
+        }
+        return text;
+    }
+
+    private long round(final long value, final long divisor) {
+        long quotient = value / divisor;
+        long remainder = value % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        switch (roundingMode) {
+            case UP:
+                return quotient + 1;
+            case HALF_UP:
+                return remainder >= divisor - remainder ? quotient + 1 : quotient;
+            case HALF_EVEN:
+                if (remainder == divisor - remainder) {
+                    return (quotient & 1) == 0 ? quotient : quotient + 1;
+                }
+                return remainder > divisor - remainder ? quotient + 1 : quotient;
+            default:
+                return quotient;
+        }
+    }
+
+    private static String render(final boolean negative, final long scaled, final int digits, final int unit) {
+        char[] text = new char[BanglaCharWriter.MAX_NUMBER_LENGTH + 2];
+        int position = 0;
+        if (negative) {
+            text[position++] = '-';
+        }
+        long integer = scaled / POWERS_OF_TEN[digits];
+        position = BanglaDigits.write(integer, text, position);
+        if (digits > 0) {
+            text[position++] = '.';
+            long fraction = scaled % POWERS_OF_TEN[digits];
+            for (int i = digits - 1; i >= 0; i--) {
+                text[position++] = (char) (BanglaDigits.ZERO + fraction / POWERS_OF_TEN[i] % 10);
+            }
+        }
+        return new String(text, 0, position) + UNITS[unit];
+    }
+}
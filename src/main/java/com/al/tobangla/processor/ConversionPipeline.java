@@ -0,0 +1,142 @@
+package com.al.tobangla.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Chain of ConverterStages applied in order, e.g.
+ * <pre>
+ * new ConversionPipeline.Builder().prefix("৳ ").digits().build()
+ * </pre>
+ * Consecutive char stages are fused at build time, so they cost one pass and one copy of
+ * the text however many of them are chained. Whole text stages run in order between the
+ * fused runs. Prefixes and suffixes are put around the final text as is, whatever their
+ * place in the chain, and are written in the pass of the last char stages. Pipelines are
+ * immutable and can be shared between threads.
+ */
+public final class ConversionPipeline {
+
+    /*
+    * EN-US digits to bangla digits
+    */
+    public static final CharConverterStage DIGITS = DigitScript.BANGLA.getStage();
+
+    private final ConverterStage[] stages;
+
+    private ConversionPipeline(final ConverterStage[] stages) {
+        this.stages = stages;
+    }
+
+    /*
+    * @param text EN-US
+    * @return text after all stages
+    */
+    public String convert(final String text) {
+        String converted = text;
+        for (ConverterStage stage : stages) {
+            converted = stage.convert(converted);
+        }
+        return converted;
+    }
+
+    public static final class Builder {
+
+        private final List<ConverterStage> stages = new ArrayList<>();
+
+        //pending char stages, flushed into one FusedStage
+        private final List<CharConverterStage> chars = new ArrayList<>();
+        private String prefix = "";
+        private String suffix = "";
+
+        /*
+        * EN-US digits to bangla digits
+        */
+        public Builder digits() {
+            return stage(DIGITS);
+        }
+
+        /*
+        * EN-US digits to the digits of the script
+        */
+        public Builder digits(final DigitScript script) {
+            return stage(script.getStage());
+        }
+
+        /*
+        * @param text put in front of the converted text as is, after the prefixes added before
+        */
+        public Builder prefix(final String text) {
+            prefix = prefix + text;
+            return this;
+        }
+
+        /*
+        * @param text put after the converted text as is, after the suffixes added before
+        */
+        public Builder suffix(final String text) {
+            suffix = suffix + text;
+            return this;
+        }
+
+        public Builder stage(final ConverterStage stage) {
+            if (stage instanceof CharConverterStage) {
+                chars.add((CharConverterStage) stage);
+            } else {
+                if (!chars.isEmpty()) {
+                    stages.add(new FusedStage("", fused(), ""));
+                }
+                stages.add(stage);
+            }
+            return this;
+        }
+
+        public ConversionPipeline build() {
+            if (!chars.isEmpty() || !prefix.isEmpty() || !suffix.isEmpty()) {
+                stages.add(new FusedStage(prefix, fused(), suffix));
+                prefix = "";
+                suffix = "";
+            }
+            return new ConversionPipeline(stages.toArray(new ConverterStage[stages.size()]));
+        }
+
+        private CharConverterStage[] fused() {
+            CharConverterStage[] fused = chars.toArray(new CharConverterStage[chars.size()]);
+            chars.clear();
+            return fused;
+        }
+    }
+
+    /**
+     * Prefix, char stages and suffix written into a single buffer in one pass.
+     */
+    private static final class FusedStage implements ConverterStage {
+
+        private final String prefix;
+        private final CharConverterStage[] chars;
+        private final String suffix;
+
+        FusedStage(String prefix, CharConverterStage[] chars, String suffix) {
+            this.prefix = prefix;
+            this.chars = chars;
+            this.suffix = suffix;
+        }
+
+        @Override
+        public String convert(final String text) {
+            int length = text.length();
+            char[] converted = new char[prefix.length() + length + suffix.length()];
+            prefix.getChars(0, prefix.length(), converted, 0);
+            text.getChars(0, length, converted, prefix.length());
+            suffix.getChars(0, suffix.length(), converted, prefix.length() + length);
+
+            for (int i = prefix.length(), end = prefix.length() + length; i < end; i++) {
+                char c = converted[i];
+                for (CharConverterStage stage : chars) {
+                    c = stage.map(c);
+                }
+                converted[i] = c;
+            }
+            return new String(converted);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.al.tobangla.processor;
+
+import com.al.tobangla.utils.ProcessType;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of ConversionPipelines by id. Every ProcessType has a prebuilt pipeline
+ * registered under its value, custom pipelines can be registered under other ids and
+ * picked from XML through the pipelineId attribute of BanglaTextView.
+ * <p>
+ * Steps that leave EN-US digits end in the digit char stage, so it fuses with any char
+ * stage a custom pipeline chains after them. Formatters writing bangla digits themselves
+ * (compact numbers, durations, masks, the epoch millis methods) are a single stage.
+ */
+public final class ConversionPipelines {
+
+    private static final ConcurrentHashMap<Integer, ConversionPipeline> PIPELINES = new ConcurrentHashMap<>();
+
+    static {
+        final ToBangla toBangla = ToBangla.getInstance();
+
+        register(ProcessType.DATE, new ConversionPipeline.Builder().digits().build());
+        register(ProcessType.NUMBER, new ConversionPipeline.Builder().digits().build());
+        register(ProcessType.TIME, new ConversionPipeline.Builder().digits().build());
+        register(ProcessType.AMOUNT, BanglaConverter.getDefault().getAmountPipeline());
+
+        //suffix picked on the EN-US number, digits converted in the fused pass after it
+        register(ProcessType.ORDINAL_INDICATOR_FOR_DATE, new ConversionPipeline.Builder().stage(new ConverterStage() {
+            @Override
+            public String convert(String text) {
+                return ToBangla.ordinal(text, true);
+            }
+        }).digits().build());
+
+        register(ProcessType.ORDINAL_INDICATOR_FOR_NUMERIC_ORDER, new ConversionPipeline.Builder().stage(new ConverterStage() {
+            @Override
+            public String convert(String text) {
+                return ToBangla.ordinal(text, false);
+            }
+        }).digits().build());
+
+        //the epoch millis methods write bangla digits straight from the cached day
+        register(ProcessType.ORDINAL_INDICATOR_TODAY, new ConversionPipeline.Builder().stage(new ConverterStage() {
+            @Override
+            public String convert(String text) {
+                return toBangla.getDate(System.currentTimeMillis());
+            }
+        }).build());
+
+        register(ProcessType.TODAY, new ConversionPipeline.Builder().stage(new ConverterStage() {
+            @Override
+            public String convert(String text) {
+                return toBangla.getToday();
+            }
+        }).build());
+
+        register(ProcessType.TIME_NOW, new ConversionPipeline.Builder().stage(new ConverterStage() {
+            @Override
+            public String convert(String text) {
+                return toBangla.getTime(System.currentTimeMillis());
+            }
+        }).build());
+
+        register(ProcessType.NOW_DATE_TIME, new ConversionPipeline.Builder().stage(new ConverterStage() {
+            @Override
+            public String convert(String text) {
+                return toBangla.getDateTime(System.currentTimeMillis());
+            }
+        }).build());
+
+        register(ProcessType.COMPACT, new ConversionPipeline.Builder().stage(new ConverterStage() {
+            @Override
+            public String convert(String text) {
+                return CompactNumberFormatter.getInstance().format(text.trim());
+            }
+        }).build());
+
+        ConverterStage duration = new ConverterStage() {
+            @Override
+            public String convert(String text) {
+                return DurationBuffer.format(DurationBuffer.parseSeconds(text));
+            }
+        };
+        register(ProcessType.COUNTDOWN, new ConversionPipeline.Builder().stage(duration).build());
+        register(ProcessType.STOPWATCH, new ConversionPipeline.Builder().stage(duration).build());
+
+        register(ProcessType.MASK, MaskFormatter.compile(MaskFormatter.DEFAULT_MASK).getPipeline());
+    }
+
+    private ConversionPipelines() {
+    }
+
+    /*
+    * Registers a pipeline, replacing any pipeline registered under the same id
+    * @param id, values of ProcessType replace the built in pipelines
+    * @param pipeline
+    */
+    public static void register(final int id, final ConversionPipeline pipeline) {
+        PIPELINES.put(id, pipeline);
+    }
+
+    public static void register(final ProcessType processType, final ConversionPipeline pipeline) {
+        register(processType.getValue(), pipeline);
+    }
+
+    /*
+    * @param id the pipeline was registered with
+    * @return the pipeline or null
+    */
+    public static ConversionPipeline get(final int id) {
+        return PIPELINES.get(id);
+    }
+
+    public static ConversionPipeline get(final ProcessType processType) {
+        return get(processType.getValue());
+    }
+}
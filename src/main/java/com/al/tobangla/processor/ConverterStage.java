@@ -0,0 +1,15 @@
+package com.al.tobangla.processor;
+
+/**
+ * One step of a ConversionPipeline.
+ * Stages mapping single characters should extend CharConverterStage, so the pipeline
+ * can fuse them into a single pass over the text.
+ */
+public interface ConverterStage {
+
+    /*
+    * @param text as left by the previous stage
+    * @return converted text
+    */
+    String convert(String text);
+}
@@ -0,0 +1,120 @@
+package com.al.tobangla.processor;
+
+import java.nio.CharBuffer;
+
+/**
+ * Table driven digit and calendar name conversion for the scripts served next to bangla.
+ * Each script is only its zero digit and name tables, the conversion loops are shared,
+ * ToBangla runs on BANGLA.
+ */
+public enum DigitScript {
+
+    BANGLA('০', ToBangla.MONTHS, ToBangla.DAYS),
+    DEVANAGARI_HINDI('०', ScriptNames.HINDI_MONTHS, ScriptNames.HINDI_DAYS),
+    DEVANAGARI_NEPALI('०', ScriptNames.NEPALI_MONTHS, ScriptNames.NEPALI_DAYS),
+    ARABIC_INDIC('٠', ScriptNames.ARABIC_MONTHS, ScriptNames.ARABIC_DAYS),
+    //Urdu / Persian
+    EXTENDED_ARABIC_INDIC('۰', ScriptNames.URDU_MONTHS, ScriptNames.URDU_DAYS);
+
+    private final char zeroDigit;
+    //distance from an EN-US digit to the same digit of this script
+    private final int shift;
+    private final String[] months;
+    private final String[] days;
+    private final CharConverterStage stage;
+
+    DigitScript(char zeroDigit, String[] months, String[] days) {
+        this.zeroDigit = zeroDigit;
+        this.shift = zeroDigit - '0';
+        this.months = months;
+        this.days = days;
+        this.stage = new CharConverterStage() {
+            @Override
+            public char map(final char c) {
+                return c >= '0' && c <= '9' ? (char) (c + shift) : c;
+            }
+        };
+    }
+
+    public char getZeroDigit() {
+        return zeroDigit;
+    }
+
+    /*
+    * @return stage for ConversionPipeline.Builder
+    */
+    public CharConverterStage getStage() {
+        return stage;
+    }
+
+    /*
+    * @param text with EN-US digits
+    * @return text with digits of this script, the same instance when it has no digit
+    */
+    public String convert(final String text) {
+        int length = text.length();
+        int first = 0;
+        while (first < length && !isDigit(text.charAt(first))) {
+            first++;
+        }
+        if (first == length) {
+            return text;
+        }
+        char[] converted = new char[length];
+        text.getChars(0, length, converted, 0);
+        convertDigits(converted, first, length - first);
+        return new String(converted);
+    }
+
+    /*
+    * Convert EN-US digits in place, in bulk
+    * @param chars to convert
+    * @param offset of the first char
+    * @param number of chars
+    */
+    public void convertDigits(final char[] chars, final int offset, final int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            char c = chars[i];
+            if (isDigit(c)) {
+                chars[i] = (char) (c + shift);
+            }
+        }
+    }
+
+    /*
+    * Convert EN-US digits in place, between position and limit
+    * @param writable buffer, its position is left unchanged
+    */
+    public void convertDigits(final CharBuffer buffer) {
+        if (buffer.hasArray()) {
+            convertDigits(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            return;
+        }
+        for (int i = buffer.position(), end = buffer.limit(); i < end; i++) {
+            char c = buffer.get(i);
+            if (isDigit(c)) {
+                buffer.put(i, (char) (c + shift));
+            }
+        }
+    }
+
+    /*
+    * @param month 1-12
+    * @return month name, null when out of range
+    */
+    public String getMonth(final int month) {
+        return month >= 1 && month <= months.length ? months[month - 1] : null;
+    }
+
+    /*
+    * @param day of week, 0 for Sunday to 6 for Saturday
+    * @return day name, null when out of range
+    */
+    public String getDay(final int dayOfWeek) {
+        return dayOfWeek >= 0 && dayOfWeek < days.length ? days[dayOfWeek] : null;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,111 @@
+package com.al.tobangla.processor;
+
+/**
+ * Reusable char buffer holding a duration in bangla digits as mm:ss, or h:mm:ss from
+ * an hour on e.g. "০৪:৫৯", "১:০০:০০", for timers updating every second.
+ * <p>
+ * set only rewrites the fields that changed since the last value, a tick from "০৪:৫৯"
+ * to "০৪:৫৮" touches the seconds only. The chars are meant to be handed to
+ * TextView.setText(char[], int, int) as is. Not thread safe, one buffer per timer.
+ */
+public final class DurationBuffer {
+
+    //16 hour digits of Long.MAX_VALUE seconds, two separators, minutes and seconds
+    public static final int MAX_LENGTH = 16 + 1 + 2 + 1 + 2;
+
+    private static final int MINUTE = 60;
+    private static final int HOUR = 60 * MINUTE;
+
+    private final char[] chars = new char[MAX_LENGTH];
+    private int length;
+    private long seconds = -1;
+
+    /*
+    * @param duration in seconds, negative durations are shown as zero
+    * @return duration as text
+    */
+    public static String format(final long seconds) {
+        DurationBuffer buffer = new DurationBuffer();
+        buffer.set(seconds);
+        return buffer.toString();
+    }
+
+    /*
+    * @param whole number of seconds, EN-US or bangla digits
+    * @return the seconds, 0 when the text is not a number
+    */
+    public static long parseSeconds(final String text) {
+        try {
+            return Long.parseLong(text.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /*
+    * @param duration in seconds, negative durations are shown as zero
+    * @return true when the text changed
+    */
+    public boolean set(final long seconds) {
+        long value = Math.max(0, seconds);
+        if (value == this.seconds) {
+            return false;
+        }
+        long previous = this.seconds;
+        this.seconds = value;
+
+        long hours = value / HOUR;
+        int hourLength = hourLength(value);
+        if (previous < 0 || hourLength != hourLength(previous)) {
+            //layout changed, write everything
+            length = hourLength + 5;
+            if (hours > 0) {
+                BanglaDigits.write(hours, chars, 0);
+                chars[hourLength - 1] = ':';
+            }
+            BanglaDigits.writeTwoDigits((int) (value / MINUTE % 60), chars, hourLength);
+            chars[hourLength + 2] = ':';
+            BanglaDigits.writeTwoDigits((int) (value % 60), chars, hourLength + 3);
+            return true;
+        }
+
+        if (value % 60 != previous % 60) {
+            BanglaDigits.writeTwoDigits((int) (value % 60), chars, hourLength + 3);
+        }
+        if (value / MINUTE != previous / MINUTE) {
+            BanglaDigits.writeTwoDigits((int) (value / MINUTE % 60), chars, hourLength);
+            if (hours != previous / HOUR) {
+                BanglaDigits.write(hours, chars, 0);
+            }
+        }
+        return true;
+    }
+
+    /*
+    * @return the chars, valid from 0 to length()
+    */
+    public char[] getChars() {
+        return chars;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public long getSeconds() {
+        return seconds;
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+
+    /*
+    * @return chars taken by the hours and their separator
+    */
+    private static int hourLength(final long seconds) {
+        long hours = seconds / HOUR;
+        return hours == 0 ? 0 : BanglaDigits.length(hours) + 1;
+    }
+}
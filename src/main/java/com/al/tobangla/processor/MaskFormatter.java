@@ -0,0 +1,164 @@
+package com.al.tobangla.processor;
+
+/**
+ * Groups digits in bangla by a mask, e.g. "#####-######" turns "01712345678" into
+ * "০১৭১২-৩৪৫৬৭৮". Every '#' of the mask takes the next digit of the input, any other
+ * char is written as is.
+ * <p>
+ * Masks are compiled once and cached, formatting is a single pass straight into the
+ * caller's buffer. Input digits may be EN-US or bangla, other input chars are skipped,
+ * so "01712 345678" and "01712-345678" are read alike. Output stops after the last
+ * filled slot and digits beyond the last slot are ignored. Instances are immutable.
+ */
+public final class MaskFormatter implements ConverterStage {
+
+    //Bangladeshi mobile number, 01712-345678
+    public static final String DEFAULT_MASK = "#####-######";
+
+    private static final char SLOT = '#';
+    private static final int CACHE_SIZE = 64;
+
+    private static final BoundedCache<String, MaskFormatter> CACHE = new BoundedCache<>(CACHE_SIZE);
+
+    private final String mask;
+    //mask chars, slots are marked in the flags
+    private final char[] template;
+    private final boolean[] slots;
+    private final int slotCount;
+    private final ConversionPipeline pipeline;
+
+    private MaskFormatter(final String mask) {
+        this.mask = mask;
+        this.template = mask.toCharArray();
+        this.slots = new boolean[template.length];
+        int count = 0;
+        for (int i = 0; i < template.length; i++) {
+            if (template[i] == SLOT) {
+                slots[i] = true;
+                count++;
+            }
+        }
+        if (count == 0) {
+            throw new IllegalArgumentException("mask without '#': " + mask);
+        }
+        this.slotCount = count;
+        this.pipeline = new ConversionPipeline.Builder().stage(this).build();
+    }
+
+    /*
+    * @param mask, '#' for a digit, anything else as is
+    * @return cached or newly compiled formatter
+    */
+    public static MaskFormatter compile(final String mask) {
+        MaskFormatter formatter = CACHE.get(mask);
+        if (formatter == null) {
+            formatter = new MaskFormatter(mask);
+            CACHE.put(mask, formatter);
+        }
+        return formatter;
+    }
+
+    public String getMask() {
+        return mask;
+    }
+
+    /*
+    * @return number of digits the mask takes
+    */
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    /*
+    * @return longest output, the buffer size needed by the char[] methods
+    */
+    public int getMaxLength() {
+        return template.length;
+    }
+
+    /*
+    * @return pipeline running this formatter, for ConversionPipelines and BanglaTextView
+    */
+    public ConversionPipeline getPipeline() {
+        return pipeline;
+    }
+
+    /*
+    * @param text with EN-US or bangla digits
+    * @return masked bangla digits, the text itself when it has no digit
+    */
+    @Override
+    public String convert(final String text) {
+        return format(text);
+    }
+
+    /*
+    * @param text with EN-US or bangla digits
+    * @return masked bangla digits, the text itself when it has no digit
+    */
+    public String format(final CharSequence text) {
+        char[] buffer = new char[template.length];
+        int length = format(text, buffer, 0);
+        return length == 0 ? text.toString() : new String(buffer, 0, length);
+    }
+
+    /*
+    * @param text with EN-US or bangla digits
+    * @param buffer with at least getMaxLength() chars from offset
+    * @return number of chars written, 0 when the text has no digit
+    */
+    public int format(final CharSequence text, final char[] dest, final int offset) {
+        int textLength = text.length();
+        int read = 0;
+        //end of the output after the last filled slot
+        int end = 0;
+        for (int i = 0; i < template.length; i++) {
+            if (!slots[i]) {
+                dest[offset + i] = template[i];
+                continue;
+            }
+            int digit = -1;
+            while (read < textLength && digit < 0) {
+                digit = BanglaDigits.value(text.charAt(read++));
+            }
+            if (digit < 0) {
+                break;
+            }
+            dest[offset + i] = (char) (BanglaDigits.ZERO + digit);
+            end = i + 1;
+        }
+        return end;
+    }
+
+    /*
+    * @param non negative number, padded with leading zeros to the slot count
+    * @return masked bangla digits
+    */
+    public String format(final long number) {
+        char[] buffer = new char[template.length];
+        return new String(buffer, 0, format(number, buffer, 0));
+    }
+
+    /*
+    * @param non negative number, padded with leading zeros to the slot count, leading
+    * digits beyond the slot count are ignored
+    * @param buffer with at least getMaxLength() chars from offset
+    * @return number of chars written
+    */
+    public int format(final long number, final char[] dest, final int offset) {
+        if (number < 0) {
+            throw new IllegalArgumentException("number " + number);
+        }
+        //slots are filled from the last, taking the lowest digit first
+        long rest = number;
+        for (int i = template.length - 1; i >= 0; i--) {
+            if (slots[i]) {
+                dest[offset + i] = (char) (BanglaDigits.ZERO + (int) (rest % 10));
+                rest /= 10;
+            } else {
+                dest[offset + i] = template[i];
+            }
+        }
+        return template.length;
+    }
+}
@@ -0,0 +1,139 @@
+package com.al.tobangla.processor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable 6x7 calendar grid of a month with bangla day labels, month title and
+ * weekday headers, ready for a calendar widget to draw.
+ * <p>
+ * Grids are kept in a small LRU cache, so swiping back and forth between months
+ * reuses the rendered labels. Day labels are shared by all grids.
+ */
+public final class MonthGrid {
+
+    public static final int ROWS = 6;
+    public static final int COLUMNS = 7;
+
+    public static final int SUNDAY = 0;
+    public static final int SATURDAY = 6;
+
+    private static final int CACHE_SIZE = 12;
+
+    //labels of day 1-31, index 0 unused
+    private static final String[] DAY_LABELS = new String[32];
+    private static final String[] ORDINAL_DAY_LABELS = new String[32];
+
+    static {
+        ToBangla toBangla = ToBangla.getInstance();
+        for (int day = 1; day < DAY_LABELS.length; day++) {
+            DAY_LABELS[day] = toBangla.getNumber(String.valueOf(day));
+            ORDINAL_DAY_LABELS[day] = toBangla.getNumericCalendarIndicator(String.valueOf(day));
+        }
+    }
+
+    private static final Map<Long, MonthGrid> CACHE = new LinkedHashMap<Long, MonthGrid>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, MonthGrid> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private final int year;
+    private final int month;
+    private final String title;
+    private final String[] weekdays = new String[COLUMNS];
+    private final String[] labels = new String[ROWS * COLUMNS];
+    private final int[] days = new int[ROWS * COLUMNS];
+
+    private MonthGrid(int year, int month, int firstDayOfWeek, boolean ordinal) {
+        this.year = year;
+        this.month = month;
+        this.title = ToBangla.MONTHS[month - 1] + ", " + ToBangla.getInstance().getNumber(String.valueOf(year));
+
+        for (int column = 0; column < COLUMNS; column++) {
+            weekdays[column] = ToBangla.DAYS[(firstDayOfWeek + column) % COLUMNS];
+        }
+
+        long firstDay = CivilDate.toEpochDay(year, month, 1);
+        int leading = (CivilDate.dayOfWeek(firstDay) - firstDayOfWeek + COLUMNS) % COLUMNS;
+        String[] dayLabels = ordinal ? ORDINAL_DAY_LABELS : DAY_LABELS;
+        for (int day = 1, length = CivilDate.lengthOfMonth(year, month); day <= length; day++) {
+            days[leading + day - 1] = day;
+            labels[leading + day - 1] = dayLabels[day];
+        }
+    }
+
+    /*
+    * @param year
+    * @param month 1-12
+    * @return grid with weeks starting on Sunday and plain day numbers
+    */
+    public static MonthGrid of(final int year, final int month) {
+        return of(year, month, SUNDAY, false);
+    }
+
+    /*
+    * @param year
+    * @param month 1-12
+    * @param first day of week, SUNDAY (0) to SATURDAY (6)
+    * @param true for calendar ordinals e.g. ২১শে, false for plain numbers
+    * @return cached or newly built grid
+    */
+    public static MonthGrid of(final int year, final int month, final int firstDayOfWeek, final boolean ordinal) {
+        if (month < 1 || month > 12 || firstDayOfWeek < SUNDAY || firstDayOfWeek > SATURDAY) {
+            throw new IllegalArgumentException("Wrong Format");
+        }
+        Long key = ((long) year << 8) | (month << 4) | (firstDayOfWeek << 1) | (ordinal ? 1 : 0);
+
+        synchronized (CACHE) {
+            MonthGrid grid = CACHE.get(key);
+            if (grid == null) {
+                grid = new MonthGrid(year, month, firstDayOfWeek, ordinal);
+                CACHE.put(key, grid);
+            }
+            return grid;
+        }
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    /*
+    * @return month name and year e.g. "জানুয়ারী, ২০১৮"
+    */
+    public String getTitle() {
+        return title;
+    }
+
+    /*
+    * @param column 0-6
+    * @return day name heading the column
+    */
+    public String getWeekday(final int column) {
+        return weekdays[column];
+    }
+
+    /*
+    * @param row 0-5
+    * @param column 0-6
+    * @return bangla day label, null for cells outside the month
+    */
+    public String getLabel(final int row, final int column) {
+        return labels[row * COLUMNS + column];
+    }
+
+    /*
+    * @param row 0-5
+    * @param column 0-6
+    * @return day of month, 0 for cells outside the month
+    */
+    public int getDayOfMonth(final int row, final int column) {
+        return days[row * COLUMNS + column];
+    }
+}
@@ -0,0 +1,276 @@
+package com.al.tobangla.processor;
+
+/**
+ * Phonetic EN-US to bangla transliteration, e.g. "amar sOnar bangla" to "আমার সোনার বাংলা".
+ * <p>
+ * Rules for vowels, consonants, conjuncts and signs are compiled once into a trie and
+ * matched longest first, so a text is transliterated in a single linear pass. Vowels are
+ * written as kar after a consonant and independent otherwise. A bare "o" after a consonant
+ * is the inherent vowel and writes nothing, "bhalo" is ভাল and "bhalO" ভালো. "z" (য) and
+ * "w" (ব) become ya-phala and ba-phala after a consonant. Upper case letters without a rule of their own
+ * fall back to the lower case rule. Anything without a rule is copied as is.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class PhoneticTransliterator {
+
+    private static final int CONSONANT = 0;
+    private static final int VOWEL = 1;
+    private static final int PHALA = 2;
+    private static final int OTHER = 3;
+
+    private static final String HASANTA = "্";
+
+    //ড়, ঢ় and য় escaped, editors tend to decompose them
+    private static final String RRA = "\u09DC";
+    private static final String RHA = "\u09DD";
+    private static final String YYA = "\u09DF";
+
+    private static final PhoneticTransliterator INSTANCE = new PhoneticTransliterator();
+
+    private final CharTrie<Rule> rules = new CharTrie<>();
+
+    private PhoneticTransliterator() {
+        //the inherent vowel, written out only at the start of a syllable
+        vowel("o", "অ", "");
+        vowel("a", "আ", "া");
+        vowel("A", "আ", "া");
+        vowel("i", "ই", "ি");
+        vowel("I", "ঈ", "ী");
+        vowel("ee", "ঈ", "ী");
+        vowel("u", "উ", "ু");
+        vowel("U", "ঊ", "ূ");
+        vowel("oo", "ঊ", "ূ");
+        vowel("e", "এ", "ে");
+        vowel("E", "এ", "ে");
+        vowel("O", "ও", "ো");
+        vowel("oi", "ঐ", "ৈ");
+        vowel("OI", "ঐ", "ৈ");
+        vowel("ou", "ঔ", "ৌ");
+        vowel("OU", "ঔ", "ৌ");
+        vowel("rri", "ঋ", "ৃ");
+
+        consonant("k", "ক");
+        consonant("kh", "খ");
+        consonant("g", "গ");
+        consonant("gh", "ঘ");
+        consonant("Ng", "ঙ");
+        consonant("c", "চ");
+        consonant("ch", "চ");
+        consonant("chh", "ছ");
+        consonant("j", "জ");
+        consonant("jh", "ঝ");
+        consonant("NG", "ঞ");
+        consonant("T", "ট");
+        consonant("Th", "ঠ");
+        consonant("D", "ড");
+        consonant("Dh", "ঢ");
+        consonant("R", RRA);
+        consonant("Rh", RHA);
+        consonant("N", "ণ");
+        consonant("t", "ত");
+        consonant("th", "থ");
+        consonant("d", "দ");
+        consonant("dh", "ধ");
+        consonant("n", "ন");
+        consonant("p", "প");
+        consonant("ph", "ফ");
+        consonant("f", "ফ");
+        consonant("b", "ব");
+        consonant("bh", "ভ");
+        consonant("v", "ভ");
+        consonant("m", "ম");
+        consonant("r", "র");
+        consonant("l", "ল");
+        consonant("sh", "শ");
+        consonant("S", "শ");
+        consonant("Sh", "ষ");
+        consonant("s", "স");
+        consonant("h", "হ");
+        consonant("y", YYA);
+        consonant("q", "ক");
+        consonant("x", "ক" + HASANTA + "স");
+        consonant("t``", "ৎ");
+
+        phala("z", "য", HASANTA + "য", true);
+        phala("w", "ও", HASANTA + "ব", false);
+
+        //conjuncts, the rest is typed as separate consonants
+        conjunct("kk", "ক", "ক");
+        conjunct("kT", "ক", "ট");
+        conjunct("kt", "ক", "ত");
+        conjunct("kl", "ক", "ল");
+        conjunct("ks", "ক", "স");
+        conjunct("kSh", "ক", "ষ");
+        conjunct("kkh", "ক", "ষ");
+        conjunct("kr", "ক", "র");
+        conjunct("gn", "গ", "ন");
+        conjunct("gl", "গ", "ল");
+        conjunct("gr", "গ", "র");
+        conjunct("gg", "জ", "ঞ");
+        conjunct("cch", "চ", "ছ");
+        conjunct("jj", "জ", "জ");
+        conjunct("NT", "ণ", "ট");
+        conjunct("ND", "ণ", "ড");
+        conjunct("tt", "ত", "ত");
+        conjunct("tth", "ত", "থ");
+        conjunct("tm", "ত", "ম");
+        conjunct("tr", "ত", "র");
+        conjunct("dd", "দ", "দ");
+        conjunct("ddh", "দ", "ধ");
+        conjunct("db", "দ", "ব");
+        conjunct("dbh", "দ", "ভ");
+        conjunct("dm", "দ", "ম");
+        conjunct("dr", "দ", "র");
+        conjunct("nt", "ন", "ত");
+        conjunct("nth", "ন", "থ");
+        conjunct("nd", "ন", "দ");
+        conjunct("ndh", "ন", "ধ");
+        conjunct("nn", "ন", "ন");
+        conjunct("nm", "ন", "ম");
+        conjunct("ndr", "ন", "দ", "র");
+        conjunct("ntr", "ন", "ত", "র");
+        conjunct("pt", "প", "ত");
+        conjunct("pp", "প", "প");
+        conjunct("pl", "প", "ল");
+        conjunct("pr", "প", "র");
+        conjunct("bd", "ব", "দ");
+        conjunct("bb", "ব", "ব");
+        conjunct("bl", "ব", "ল");
+        conjunct("br", "ব", "র");
+        conjunct("bhr", "ভ", "র");
+        conjunct("mp", "ম", "প");
+        conjunct("mb", "ম", "ব");
+        conjunct("mm", "ম", "ম");
+        conjunct("ml", "ম", "ল");
+        conjunct("mr", "ম", "র");
+        conjunct("ll", "ল", "ল");
+        conjunct("lp", "ল", "প");
+        conjunct("shch", "শ", "চ");
+        conjunct("shr", "শ", "র");
+        conjunct("ShT", "ষ", "ট");
+        conjunct("ShTh", "ষ", "ঠ");
+        conjunct("sk", "স", "ক");
+        conjunct("st", "স", "ত");
+        conjunct("sth", "স", "থ");
+        conjunct("str", "স", "ত", "র");
+        conjunct("sp", "স", "প");
+        conjunct("sm", "স", "ম");
+        conjunct("sn", "স", "ন");
+        conjunct("hm", "হ", "ম");
+
+        other("ng", "ং");
+        other(":", "ঃ");
+        other("^", "ঁ");
+        for (char digit = '0'; digit <= '9'; digit++) {
+            other(String.valueOf(digit), String.valueOf((char) (BanglaDigits.ZERO + digit - '0')));
+        }
+    }
+
+    public static PhoneticTransliterator getInstance() {
+        return INSTANCE;
+    }
+
+    /*
+    * @param text typed phonetically in EN-US letters
+    * @return text in bangla
+    */
+    public String transliterate(final CharSequence text) {
+        StringBuilder out = new StringBuilder(text.length() + text.length() / 2);
+        transliterate(text, out);
+        return out.toString();
+    }
+
+    /*
+    * Appends the transliteration, a reused builder keeps keystroke updates allocation free
+    * @param text typed phonetically in EN-US letters
+    * @param builder the bangla text is appended to
+    */
+    public void transliterate(final CharSequence text, final StringBuilder out) {
+        int length = text.length();
+        boolean afterConsonant = false;
+        int position = 0;
+
+        while (position < length) {
+            CharTrie.Node<Rule> match = rules.match(text, position);
+            if (match == null) {
+                out.append(text.charAt(position++));
+                afterConsonant = false;
+                continue;
+            }
+            Rule rule = match.getValue();
+            position += match.getLength();
+
+            switch (rule.kind) {
+                case CONSONANT:
+                    out.append(rule.text);
+                    afterConsonant = true;
+                    break;
+                case VOWEL:
+                    out.append(afterConsonant ? rule.dependent : rule.text);
+                    afterConsonant = false;
+                    break;
+                case PHALA:
+                    if (afterConsonant) {
+                        out.append(rule.dependent);
+                    } else {
+                        out.append(rule.text);
+                        afterConsonant = rule.consonant;
+                    }
+                    break;
+                default:
+                    out.append(rule.text);
+                    afterConsonant = false;
+                    break;
+            }
+        }
+    }
+
+    private void vowel(String key, String independent, String kar) {
+        add(key, new Rule(VOWEL, independent, kar, false));
+    }
+
+    private void consonant(String key, String letter) {
+        add(key, new Rule(CONSONANT, letter, null, true));
+    }
+
+    /*
+    * @param whether the independent letter is a consonant itself
+    */
+    private void phala(String key, String independent, String phala, boolean consonant) {
+        add(key, new Rule(PHALA, independent, phala, consonant));
+    }
+
+    private void conjunct(String key, String... letters) {
+        StringBuilder text = new StringBuilder(letters[0]);
+        for (int i = 1; i < letters.length; i++) {
+            text.append(HASANTA).append(letters[i]);
+        }
+        add(key, new Rule(CONSONANT, text.toString(), null, true));
+    }
+
+    private void other(String key, String text) {
+        add(key, new Rule(OTHER, text, null, false));
+    }
+
+    private void add(String key, Rule rule) {
+        rules.add(key, rule);
+    }
+
+    private static final class Rule {
+        final int kind;
+        //consonant, conjunct, independent vowel or sign
+        final String text;
+        //kar or phala written after a consonant
+        final String dependent;
+        //text ends in a consonant, so a following vowel is written as kar
+        final boolean consonant;
+
+        Rule(int kind, String text, String dependent, boolean consonant) {
+            this.kind = kind;
+            this.text = text;
+            this.dependent = dependent;
+            this.consonant = consonant;
+        }
+    }
+}
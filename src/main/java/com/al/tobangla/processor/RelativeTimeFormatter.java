@@ -0,0 +1,126 @@
+package com.al.tobangla.processor;
+
+import java.util.TimeZone;
+
+/**
+ * Relative time in bangla e.g. "৫ মিনিট আগে", "২ ঘণ্টা পরে".
+ * <p>
+ * Differences are bucketed into seconds, minutes, hours and days, older times fall
+ * back to the ordinal date e.g. "২১শে জানুয়ারী, ২০১৮". Rendered strings are cached
+ * per bucket value, so every row showing "২ ঘণ্টা আগে" shares one instance.
+ * Instances are thread safe.
+ */
+public class RelativeTimeFormatter {
+
+    private static final String JUST_NOW = "এইমাত্র";
+    private static final String AGO = " আগে";
+    private static final String LATER = " পরে";
+
+    private static final long SECOND = 1000;
+    private static final long MINUTE = 60 * SECOND;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long DAY = 24 * HOUR;
+
+    private static final int SECONDS = 0;
+    private static final int MINUTES = 1;
+    private static final int HOURS = 2;
+    private static final int DAYS = 3;
+
+    private static final String[] UNIT_NAMES = {" সেকেন্ড", " মিনিট", " ঘণ্টা", " দিন"};
+    private static final long[] UNIT_MILLIS = {SECOND, MINUTE, HOUR, DAY};
+    //values per bucket before moving on to the next one, days move on to the date
+    private static final int[] UNIT_LIMITS = {60, 60, 24, 7};
+
+    private final TimeZone timeZone;
+
+    //[unit][value], filled lazily, racing writers store equal strings
+    private final String[][] past = new String[UNIT_LIMITS.length][];
+    private final String[][] future = new String[UNIT_LIMITS.length][];
+
+    private volatile CachedDate lastDate;
+
+    public RelativeTimeFormatter() {
+        this(TimeZone.getDefault());
+    }
+
+    /*
+    * @param zone used for the date fallback
+    */
+    public RelativeTimeFormatter(final TimeZone timeZone) {
+        this.timeZone = timeZone;
+        for (int unit = 0; unit < UNIT_LIMITS.length; unit++) {
+            past[unit] = new String[UNIT_LIMITS[unit]];
+            future[unit] = new String[UNIT_LIMITS[unit]];
+        }
+    }
+
+    /*
+    * @param time in epoch millis
+    * @return time relative to now in bangla
+    */
+    public String format(final long time) {
+        return format(time, System.currentTimeMillis());
+    }
+
+    /*
+    * @param time in epoch millis
+    * @param reference time in epoch millis, usually now
+    * @return time relative to the reference in bangla
+    */
+    public String format(final long time, final long reference) {
+        long delta = reference - time;
+        boolean isFuture = delta < 0;
+        if (isFuture) {
+            delta = -delta;
+        }
+
+        if (delta < SECOND) {
+            return JUST_NOW;
+        }
+
+        for (int unit = SECONDS; unit <= DAYS; unit++) {
+            long value = delta / UNIT_MILLIS[unit];
+            if (value < UNIT_LIMITS[unit]) {
+                return bucket(isFuture ? future : past, unit, (int) value, isFuture);
+            }
+        }
+        return date(time);
+    }
+
+    private String bucket(final String[][] cache, final int unit, final int value, final boolean isFuture) {
+        String text = cache[unit][value];
+        if (text == null) {
+            text = ToBangla.getInstance().getNumber(String.valueOf(value)) + UNIT_NAMES[unit] + (isFuture ? LATER : AGO);
+            cache[unit][value] = text;
+        }
+        return text;
+    }
+
+    private String date(final long time) {
+        long epochDay = CivilDate.epochDay(time, timeZone.getOffset(time));
+
+        CachedDate cached = lastDate;
+        if (cached != null && cached.epochDay == epochDay) {
+            return cached.text;
+        }
+
+        int date = CivilDate.fromEpochDay(epochDay);
+        ToBangla toBangla = ToBangla.getInstance();
+        String text = toBangla.getNumericCalendarIndicator(String.valueOf(CivilDate.day(date)))
+                + " " + ToBangla.MONTHS[CivilDate.month(date) - 1]
+                + ", " + toBangla.getNumber(String.valueOf(CivilDate.year(date)));
+
+        lastDate = new CachedDate(epochDay, text);
+        return text;
+    }
+
+    private static final class CachedDate {
+        final long epochDay;
+        final String text;
+
+        CachedDate(long epochDay, String text) {
+            this.epochDay = epochDay;
+            this.text = text;
+        }
+    }
+}
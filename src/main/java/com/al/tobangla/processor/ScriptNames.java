@@ -0,0 +1,26 @@
+package com.al.tobangla.processor;
+
+/**
+ * Month (from January) and day (from Sunday) names of the non bangla digit scripts.
+ */
+final class ScriptNames {
+
+    static final String[] HINDI_MONTHS = {"जनवरी", "फरवरी", "मार्च", "अप्रैल", "मई", "जून",
+            "जुलाई", "अगस्त", "सितंबर", "अक्टूबर", "नवंबर", "दिसंबर"};
+    static final String[] HINDI_DAYS = {"रविवार", "सोमवार", "मंगलवार", "बुधवार", "गुरुवार", "शुक्रवार", "शनिवार"};
+
+    static final String[] NEPALI_MONTHS = {"जनवरी", "फेब्रुअरी", "मार्च", "अप्रिल", "मे", "जुन",
+            "जुलाई", "अगस्ट", "सेप्टेम्बर", "अक्टोबर", "नोभेम्बर", "डिसेम्बर"};
+    static final String[] NEPALI_DAYS = {"आइतबार", "सोमबार", "मङ्गलबार", "बुधबार", "बिहिबार", "शुक्रबार", "शनिबार"};
+
+    static final String[] ARABIC_MONTHS = {"يناير", "فبراير", "مارس", "أبريل", "مايو", "يونيو",
+            "يوليو", "أغسطس", "سبتمبر", "أكتوبر", "نوفمبر", "ديسمبر"};
+    static final String[] ARABIC_DAYS = {"الأحد", "الاثنين", "الثلاثاء", "الأربعاء", "الخميس", "الجمعة", "السبت"};
+
+    static final String[] URDU_MONTHS = {"جنوری", "فروری", "مارچ", "اپریل", "مئی", "جون",
+            "جولائی", "اگست", "ستمبر", "اکتوبر", "نومبر", "دسمبر"};
+    static final String[] URDU_DAYS = {"اتوار", "پیر", "منگل", "بدھ", "جمعرات", "جمعہ", "ہفتہ"};
+
+    private ScriptNames() {
+    }
+}
@@ -0,0 +1,83 @@
+package com.al.tobangla.processor;
+
+import java.util.TimeZone;
+
+/**
+ * 12-hour time of day in bangla with the day period e.g. "সকাল ৯:০৫", "রাত ১১:৩০".
+ * <p>
+ * Hours and minutes are computed from epoch millis with integer arithmetic and
+ * written as bangla digits directly, no Calendar or Date is allocated per call.
+ */
+public final class TimeOfDayFormatter {
+
+    //longest period, a space and h:mm / hh:mm
+    public static final int MAX_LENGTH = 13;
+
+    private static final long MILLIS_PER_MINUTE = 60 * 1000;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final String DAWN = "ভোর";
+    private static final String MORNING = "সকাল";
+    private static final String NOON = "দুপুর";
+    private static final String AFTERNOON = "বিকাল";
+    private static final String EVENING = "সন্ধ্যা";
+    private static final String NIGHT = "রাত";
+
+    //day period by hour of day
+    private static final String[] PERIODS = {
+            NIGHT, NIGHT, NIGHT, NIGHT,
+            DAWN, DAWN,
+            MORNING, MORNING, MORNING, MORNING, MORNING, MORNING,
+            NOON, NOON, NOON,
+            AFTERNOON, AFTERNOON, AFTERNOON,
+            EVENING, EVENING,
+            NIGHT, NIGHT, NIGHT, NIGHT
+    };
+
+    private TimeOfDayFormatter() {
+    }
+
+    /*
+    * @param time in epoch millis, shown in the default time zone
+    * @return time in String UTF-8
+    */
+    public static String format(final long epochMillis) {
+        return format(epochMillis, TimeZone.getDefault().getOffset(epochMillis));
+    }
+
+    /*
+    * @param time in epoch millis
+    * @param offset of the local zone from UTC in millis
+    * @return time in String UTF-8
+    */
+    public static String format(final long epochMillis, final int offsetMillis) {
+        char[] buffer = new char[MAX_LENGTH];
+        return new String(buffer, 0, format(epochMillis, offsetMillis, buffer, 0));
+    }
+
+    /*
+    * Writes the time into a caller owned buffer, nothing is allocated
+    * @param time in epoch millis
+    * @param offset of the local zone from UTC in millis
+    * @param buffer with at least MAX_LENGTH chars from offset
+    * @return number of chars written
+    */
+    public static int format(final long epochMillis, final int offsetMillis, final char[] dest, final int offset) {
+        int minuteOfDay = (int) CivilDate.floorMod(
+                CivilDate.floorDiv(epochMillis + offsetMillis, MILLIS_PER_MINUTE), MINUTES_PER_DAY);
+        int hour = minuteOfDay / 60;
+        int minute = minuteOfDay % 60;
+
+        String period = PERIODS[hour];
+        period.getChars(0, period.length(), dest, offset);
+        int position = offset + period.length();
+        dest[position++] = ' ';
+
+        int hour12 = hour % 12 == 0 ? 12 : hour % 12;
+        position = BanglaDigits.write(hour12, dest, position);
+        dest[position++] = ':';
+        position = BanglaDigits.writeTwoDigits(minute, dest, position);
+
+        return position - offset;
+    }
+}
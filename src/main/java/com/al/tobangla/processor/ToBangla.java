@@ -2,9 +2,11 @@ package com.al.tobangla.processor;
 
 import com.al.tobangla.utils.ProcessType;
 
+import java.nio.CharBuffer;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Locale;
+import java.util.TimeZone;
 
 /**
  * @author al.noman.uap@gmail.com
@@ -16,22 +18,46 @@ public class ToBangla {
     private static final String HH_MM_SS = "HH:mm:ss";
     private static final String invalidFormat = "Wrong Format";
 
-    private static volatile ToBangla mInstance = null;
+    //dd/MM/yyyy of the last converted local epoch day
+    private volatile CachedDay cachedDay;
+    //default zone for the epoch millis methods, TimeZone.getDefault() clones on every call
+    private volatile TimeZone timeZone = TimeZone.getDefault();
+
+    //month names indexed from 0 (January)
+    static final String[] MONTHS = {
+            "জানুয়ারী",
+            "ফেব্রুয়ারি",
+            "মার্চ",
+            "এপ্রিল",
+            "মে",
+            "জুন",
+            "জুলাই",
+            "অগাস্ট",
+            "সেপ্টেম্বর",
+            "অক্টোবর",
+            "নভেম্বর",
+            "ডিসেম্বর"
+    };
+
+    //day names indexed from 0 (Sunday)
+    static final String[] DAYS = {
+            "রবিবার",
+            "সোমবার",
+            "মঙ্গলবার",
+            "বুধবার",
+            "বৃহস্পতিবার",
+            "শুক্রবার",
+            "শনিবার"
+    };
 
     //initializing vars
     private ToBangla() {
     }
 
-    //instantiating with thread safe mechanism
+    //instantiating with thread safe mechanism, the holder is initialized on first use
+    //by the class loader, so no volatile read or lock is paid per call
     public static ToBangla getInstance() {
-        if (mInstance == null) {
-            synchronized (ToBangla.class) {
-                if (mInstance == null) {
-                    mInstance = new ToBangla();
-                }
-            }
-        }
-        return mInstance;
+        return Holder.INSTANCE;
     }
 
     /*
@@ -41,12 +67,25 @@ public class ToBangla {
     * @return date in BN UTF-8
     */
     public String changeByChar(final String date) throws NumberFormatException {
-        StringBuilder formatted = new StringBuilder();
-        for (int i = 0; i < date.length(); i++) {
-            //convert each numeric character to bangla
-            formatted.append(numberConverter(date.charAt(i)));
-        }
-        return formatted.toString();
+        return DigitScript.BANGLA.convert(date);
+    }
+
+    /*
+    * Convert EN-US number characters to Bangla in place, in bulk
+    * @param chars to convert
+    * @param offset of the first char
+    * @param number of chars
+    */
+    public void convertDigits(final char[] chars, final int offset, final int length) {
+        DigitScript.BANGLA.convertDigits(chars, offset, length);
+    }
+
+    /*
+    * Convert EN-US number characters to Bangla in place, between position and limit
+    * @param writable buffer, its position is left unchanged
+    */
+    public void convertDigits(final CharBuffer buffer) {
+        DigitScript.BANGLA.convertDigits(buffer);
     }
 
     /*
@@ -55,57 +94,32 @@ public class ToBangla {
     * @return day in String UTF-8
     */
     public String getDay(final String day) {
+        int index = dayIndex(day.toLowerCase(Locale.US).trim());
+        return index < 0 ? day : DAYS[index];
+    }
 
-        switch (day.toLowerCase().trim()) {
+    /*
+    * @param lowercase EN-US day name
+    * @return index into DAYS, -1 for an unknown name
+    */
+    static int dayIndex(final String day) {
+        switch (day) {
             case "sunday":
-                return "রবিবার";
+                return 0;
             case "monday":
-                return "সোমবার";
+                return 1;
             case "tuesday":
-                return "মঙ্গলবার";
+                return 2;
             case "wednesday":
-                return "বুধবার";
+                return 3;
             case "thursday":
-                return "বৃহস্পতিবার";
+                return 4;
             case "friday":
-                return "শুক্রবার";
+                return 5;
             case "saturday":
-                return "শনিবার";
-            default:
-                return day;
-        }
-    }
-
-    /*
-    * Convert EN-US number characters to Bangla
-    * @param character EN-US
-    * @return BN numeric character
-    */
-    private char numberConverter(final char en) {
-
-        switch (en) {
-            case '1':
-                return '১';
-            case '2':
-                return '২';
-            case '3':
-                return '৩';
-            case '4':
-                return '৪';
-            case '5':
-                return '৫';
-            case '6':
-                return '৬';
-            case '7':
-                return '৭';
-            case '8':
-                return '৮';
-            case '9':
-                return '৯';
-            case '0':
-                return '০';
+                return 6;
             default:
-                return en;
+                return -1;
         }
     }
 
@@ -143,6 +157,94 @@ public class ToBangla {
         return changeByChar(time);
     }
 
+    /*
+    * get any date in bangla, the date is rendered once per local day so sorted
+    * timestamp streams only pay for it when the day changes
+    * @param date in epoch millis, shown in the default time zone, see refreshTimeZone
+    * @return date in String UTF-8 as dd/MM/yyyy
+    */
+    public String getDate(final long epochMillis) {
+        int offsetMillis = timeZone.getOffset(epochMillis);
+        return getCachedDay(CivilDate.epochDay(epochMillis, offsetMillis)).date;
+    }
+
+    /*
+    * get any time in bangla
+    * @param time in epoch millis, shown in the default time zone, see refreshTimeZone
+    * @return time in String UTF-8 as HH:mm:ss
+    */
+    public String getTime(final long epochMillis) {
+        char[] time = new char[HH_MM_SS.length()];
+        writeTime(epochMillis, timeZone.getOffset(epochMillis), time, 0);
+        return new String(time);
+    }
+
+    /*
+    * get any timestamp in bangla
+    * @param timestamp in epoch millis, shown in the default time zone, see refreshTimeZone
+    * @return timestamp in String UTF-8 as dd/MM/yyyy HH:mm:ss
+    */
+    public String getDateTime(final long epochMillis) {
+        int offsetMillis = timeZone.getOffset(epochMillis);
+        CachedDay day = getCachedDay(CivilDate.epochDay(epochMillis, offsetMillis));
+        int dateLength = day.date.length();
+        char[] dateTime = new char[dateLength + 1 + HH_MM_SS.length()];
+        day.date.getChars(0, dateLength, dateTime, 0);
+        dateTime[dateLength] = ' ';
+        writeTime(epochMillis, offsetMillis, dateTime, dateLength + 1);
+        return new String(dateTime);
+    }
+
+    /*
+    * Picks up a changed default time zone for the epoch millis methods, the zone is only
+    * replaced when its ID differs. Android calls it on ACTION_TIMEZONE_CHANGED through
+    * the library's TimeZoneChangeReceiver, JVM callers after TimeZone.setDefault.
+    */
+    public void refreshTimeZone() {
+        TimeZone current = TimeZone.getDefault();
+        if (!current.getID().equals(timeZone.getID())) {
+            timeZone = current;
+        }
+    }
+
+    /*
+    * The cache is keyed by local epoch day only, the rendered date doesn't depend on the zone
+    * @param local epoch day
+    * @return the cached day, rendered again after a day change
+    */
+    private CachedDay getCachedDay(final long epochDay) {
+        CachedDay day = cachedDay;
+        if (day != null && day.epochDay == epochDay) {
+            return day;
+        }
+
+        int date = CivilDate.fromEpochDay(epochDay);
+
+        //years beyond 9999 or before 0 don't fit dd/MM/yyyy
+        char[] text = new char[DD_MM_YYYY.length() + 8];
+        int position = BanglaDigits.writeTwoDigits(CivilDate.day(date), text, 0);
+        text[position++] = '/';
+        position = BanglaDigits.writeTwoDigits(CivilDate.month(date), text, position);
+        text[position++] = '/';
+        position = BanglaDigits.write(CivilDate.year(date), text, position);
+
+        day = new CachedDay(epochDay, new String(text, 0, position));
+        cachedDay = day;
+        return day;
+    }
+
+    /*
+    * Writes HH:mm:ss in bangla digits
+    */
+    private static void writeTime(final long epochMillis, final int offsetMillis, final char[] dest, final int offset) {
+        int secondOfDay = (int) CivilDate.floorMod(CivilDate.floorDiv(epochMillis + offsetMillis, 1000), 24 * 60 * 60);
+        int position = BanglaDigits.writeTwoDigits(secondOfDay / 3600, dest, offset);
+        dest[position++] = ':';
+        position = BanglaDigits.writeTwoDigits(secondOfDay / 60 % 60, dest, position);
+        dest[position++] = ':';
+        BanglaDigits.writeTwoDigits(secondOfDay % 60, dest, position);
+    }
+
     /*
     * get current time in bangla
     * @return time in String UTF-8
@@ -175,57 +277,53 @@ public class ToBangla {
     * @return Month in BN
     */
     public String getMonth(final String month) {
+        int index = monthIndex(month.toLowerCase(Locale.US).trim());
+        return index < 0 ? invalidFormat : MONTHS[index];
+    }
 
-        switch (month.toLowerCase().trim()) {
-
+    /*
+    * @param lowercase EN-US month name or its 3 letter short form
+    * @return index into MONTHS, -1 for an unknown name
+    */
+    static int monthIndex(final String month) {
+        switch (month) {
             case "january":
             case "jan":
-                return "জানুয়ারী";
-
+                return 0;
             case "february":
             case "feb":
-                return "ফেব্রুয়ারি";
-
+                return 1;
             case "march":
             case "mar":
-                return "মার্চ";
-
+                return 2;
             case "april":
             case "apr":
-                return "এপ্রিল";
-
+                return 3;
             case "may":
-                return "মে";
-
+                return 4;
             case "june":
             case "jun":
-                return "জুন";
-
+                return 5;
             case "july":
             case "jul":
-                return "জুলাই";
-
+                return 6;
             case "august":
             case "aug":
-                return "অগাস্ট";
-
+                return 7;
             case "september":
             case "sep":
-                return "সেপ্টেম্বর";
-
+                return 8;
             case "october":
             case "oct":
-                return "অক্টোবর";
-
+                return 9;
             case "november":
             case "nov":
-                return "নভেম্বর";
-
+                return 10;
             case "december":
             case "dec":
-                return "ডিসেম্বর";
+                return 11;
             default:
-                return invalidFormat;
+                return -1;
         }
     }
 
@@ -235,34 +333,12 @@ public class ToBangla {
     */
     public String getMonthByNumber(final String month) {
 
-        switch (Integer.parseInt(month)) {
-            case 1:
-                return "জানুয়ারী";
-            case 2:
-                return "ফেব্রুয়ারি";
-            case 3:
-                return "মার্চ";
-            case 4:
-                return "এপ্রিল";
-            case 5:
-                return "মে";
-            case 6:
-                return "জুন";
-            case 7:
-                return "জুলাই";
-            case 8:
-                return "অগাস্ট";
-            case 9:
-                return "সেপ্টেম্বর";
-            case 10:
-                return "অক্টোবর";
-            case 11:
-                return "নভেম্বর";
-            case 12:
-                return "ডিসেম্বর";
-            default:
-                return invalidFormat;
+        int number = Integer.parseInt(month);
+
+        if (number < 1 || number > MONTHS.length) {
+            return invalidFormat;
         }
+        return MONTHS[number - 1];
     }
 
     /*
@@ -270,22 +346,7 @@ public class ToBangla {
     * @return in BN format normal format
     */
     private String processForNumericOrdinalIndicator(String text) {
-
-        int number = Integer.parseInt(text.replaceAll("\\D+", ""));
-
-        if (number == 0 || number > 10) {
-            return changeByChar("" + number) + "তম";
-        } else if (number == 1 || number == 5 || number == 7 || number == 8 || number == 9 || number == 10) {
-            return changeByChar("" + number) + "ম";
-        } else if (number == 2 || number == 3) {
-            return changeByChar("" + number) + "য়";
-        } else if (number == 4) {
-            return changeByChar("" + number) + "র্থ";
-        } else if (number == 6) {
-            return changeByChar("" + number) + "ষ্ঠ";
-        } else {
-            return invalidFormat;
-        }
+        return changeByChar(ordinal(text, false));
     }
 
     /*
@@ -296,19 +357,8 @@ public class ToBangla {
 
         int number = Integer.parseInt(digit);
 
-        if (number == 0 || number > 10) {
-            return changeByChar("" + number) + "তম";
-        } else if (number == 1 || number == 5 || number == 7 || number == 8 || number == 9 || number == 10) {
-            return changeByChar("" + number) + "ম";
-        } else if (number == 2 || number == 3) {
-            return changeByChar("" + number) + "য়";
-        } else if (number == 4) {
-            return changeByChar("" + number) + "র্থ";
-        } else if (number == 6) {
-            return changeByChar("" + number) + "ষ্ঠ";
-        } else {
-            return invalidFormat;
-        }
+        String suffix = orderSuffix(number);
+        return suffix != null ? changeByChar("" + number) + suffix : invalidFormat;
     }
 
     /*
@@ -317,24 +367,21 @@ public class ToBangla {
     * @throws NumberFormatError
     */
     private String processForDateTypeOrdinalIndicator(String text) throws NumberFormatException {
+        return changeByChar(ordinal(text, true));
+    }
 
+    /*
+    * The ordinal before its digit conversion, so a pipeline can fuse that with other char stages
+    * @param text with the number, any other char is dropped
+    * @param true for calendar suffixes (1লা), false for numeric order ones (1ম)
+    * @return number in EN-US digits with the bangla suffix
+    * @throws NumberFormatException
+    */
+    static String ordinal(final String text, final boolean calendar) throws NumberFormatException {
         int number = Integer.parseInt(text.replaceAll("\\D+", ""));
 
-        if (number == 0) {
-            return changeByChar("" + number) + "তম";
-        } else if (number == 1) {
-            return changeByChar("" + number) + "লা";
-        } else if (number >= 5 && number <= 18) {
-            return changeByChar("" + number) + "ই";
-        } else if (number == 2 || number == 3) {
-            return changeByChar("" + number) + "রা";
-        } else if (number == 4) {
-            return changeByChar("" + number) + "ঠা";
-        } else if (number >= 19 && number <= 31) {
-            return changeByChar("" + number) + "শে";
-        } else {
-            return invalidFormat;
-        }
+        String suffix = calendar ? calendarSuffix(number) : orderSuffix(number);
+        return suffix != null ? number + suffix : invalidFormat;
     }
 
     /*
@@ -346,20 +393,51 @@ public class ToBangla {
 
         int number = Integer.parseInt(digit);
 
+        String suffix = calendarSuffix(number);
+        return suffix != null ? changeByChar("" + number) + suffix : invalidFormat;
+    }
+
+    /*
+    * @param number
+    * @return suffix for -st, -nd, -rd, -th in numeric order, null when out of range
+    */
+    static String orderSuffix(final int number) {
+
+        if (number == 0 || number > 10) {
+            return "তম";
+        } else if (number == 1 || number == 5 || number == 7 || number == 8 || number == 9 || number == 10) {
+            return "ম";
+        } else if (number == 2 || number == 3) {
+            return "য়";
+        } else if (number == 4) {
+            return "র্থ";
+        } else if (number == 6) {
+            return "ষ্ঠ";
+        } else {
+            return null;
+        }
+    }
+
+    /*
+    * @param number
+    * @return suffix for -st, -nd, -rd, -th of a calendar date, null when out of range
+    */
+    static String calendarSuffix(final int number) {
+
         if (number == 0) {
-            return changeByChar("" + number) + "তম";
+            return "তম";
         } else if (number == 1) {
-            return changeByChar("" + number) + "লা";
+            return "লা";
         } else if (number >= 5 && number <= 18) {
-            return changeByChar("" + number) + "ই";
+            return "ই";
         } else if (number == 2 || number == 3) {
-            return changeByChar("" + number) + "রা";
+            return "রা";
         } else if (number == 4) {
-            return changeByChar("" + number) + "ঠা";
+            return "ঠা";
         } else if (number >= 19 && number <= 31) {
-            return changeByChar("" + number) + "শে";
+            return "শে";
         } else {
-            return invalidFormat;
+            return null;
         }
     }
 
@@ -387,4 +465,18 @@ public class ToBangla {
         return changeByChar(number);
     }
 
+    private static final class Holder {
+        static final ToBangla INSTANCE = new ToBangla();
+    }
+
+    private static final class CachedDay {
+        final long epochDay;
+        final String date;
+
+        CachedDay(long epochDay, String date) {
+            this.epochDay = epochDay;
+            this.date = date;
+        }
+    }
+
 }
@@ -16,10 +16,20 @@ public enum ProcessType {
 
     TODAY(8),
     TIME_NOW(9),
-    NOW_DATE_TIME(10);
+    NOW_DATE_TIME(10),
+
+    COMPACT(11),
+
+    COUNTDOWN(12),
+    STOPWATCH(13),
+
+    MASK(14);
 
     int value;
 
+    //values() clones the array on every call, lookups share this copy
+    private static final ProcessType[] VALUES = values();
+
     ProcessType(int value) {
         this.value = value;
     }
@@ -27,4 +37,17 @@ public enum ProcessType {
     public int getValue() {
         return value;
     }
+
+    /*
+    * @param value as declared in attrs.xml
+    * @return matching process type, null when none matches
+    */
+    public static ProcessType fromValue(int value) {
+        for (ProcessType processType : VALUES) {
+            if (processType.value == value) {
+                return processType;
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,196 @@
+package com.al.tobangla.views;
+
+import com.al.tobangla.processor.ConversionPipeline;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Position keyed cache of converted texts for list adapters, filled ahead of scrolling.
+ * <pre>
+ * public void onBindViewHolder(ViewHolder holder, int position) {
+ *     holder.amount.bind(cache, position);
+ * }
+ * </pre>
+ * Binds keep up to a page of positions ahead in the scroll direction converted, in batches
+ * on a background thread, so by the time RecyclerView binds or prefetches those rows the
+ * text is a ring buffer lookup. A miss is converted on the calling thread and stored.
+ * Negative positions, e.g. RecyclerView.NO_POSITION of a row being removed, are always
+ * a miss, converted but neither stored nor prefetched around.
+ * <p>
+ * onBind, get and invalidate are meant to be called from the main thread. The Source is
+ * read from the background thread as well, so it has to be safe to read there, e.g. an
+ * immutable snapshot of the adapter's data. Call invalidate whenever the data changes.
+ */
+public class BanglaPrefetchCache {
+
+    /**
+     * EN-US text of the items, read on the main and the background thread.
+     */
+    public interface Source {
+
+        int getCount();
+
+        String getText(int position);
+    }
+
+    //one low priority thread shared by all caches, batches of different lists queue up
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "BanglaPrefetchCache");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }
+    });
+
+    private final Source source;
+    private final ConversionPipeline pipeline;
+    private final int pageSize;
+    private final AtomicReferenceArray<Entry> entries;
+
+    //bumped by invalidate, entries and batches of older generations are ignored
+    private volatile int generation;
+
+    //main thread only, positions handed to the background thread so far
+    private int lastPosition = -1;
+    private int scheduledFrom;
+    private int scheduledTo;
+
+    /*
+    * @param texts of the items
+    * @param pipeline converting each text, e.g. ConversionPipelines.get(ProcessType.AMOUNT)
+    * @param number of positions converted per batch, about a screen or two of rows
+    */
+    public BanglaPrefetchCache(Source source, ConversionPipeline pipeline, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize " + pageSize);
+        }
+        this.source = source;
+        this.pipeline = pipeline;
+        this.pageSize = pageSize;
+        //the page behind, the visible rows and the page ahead
+        this.entries = new AtomicReferenceArray<>(pageSize * 4);
+    }
+
+    /*
+    * Prefetches up to a page ahead in the scroll direction once less than half a page
+    * ahead is converted or on its way
+    * @param position being bound
+    */
+    public void onBind(int position) {
+        if (position < 0) {
+            return;
+        }
+        boolean forward = position >= lastPosition;
+        lastPosition = position;
+        //whether the positions next to this one were scheduled already
+        boolean covered = position >= scheduledFrom - 1 && position <= scheduledTo;
+
+        int from;
+        int to;
+        if (forward) {
+            to = Math.min(source.getCount(), position + 1 + pageSize);
+            if (covered && to - pageSize / 2 <= scheduledTo) {
+                return;
+            }
+            from = covered ? Math.max(position + 1, scheduledTo) : position + 1;
+            scheduledFrom = position + 1;
+            scheduledTo = Math.max(to, from);
+        } else {
+            from = Math.max(0, position - pageSize);
+            if (covered && from + pageSize / 2 >= scheduledFrom) {
+                return;
+            }
+            to = covered ? Math.min(position, scheduledFrom) : position;
+            scheduledFrom = Math.min(from, to);
+            scheduledTo = position;
+        }
+        if (from >= to) {
+            return;
+        }
+
+        final int batchFrom = from;
+        final int batchTo = to;
+        final int batchGeneration = generation;
+        EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                convert(batchFrom, batchTo, batchGeneration);
+            }
+        });
+    }
+
+    /*
+    * @param position of the item
+    * @return converted text, converted now when it isn't cached
+    */
+    public String get(int position) {
+        int current = generation;
+        Entry entry = find(position, current);
+        if (entry != null) {
+            return entry.text;
+        }
+        String text = pipeline.convert(source.getText(position));
+        if (position >= 0) {
+            entries.set(slot(position), new Entry(position, current, text));
+        }
+        return text;
+    }
+
+    /*
+    * Drops every cached text, call after the adapter's data changed
+    */
+    public void invalidate() {
+        generation++;
+        lastPosition = -1;
+        scheduledFrom = 0;
+        scheduledTo = 0;
+    }
+
+    private void convert(int from, int to, int batchGeneration) {
+        for (int position = from; position < to; position++) {
+            if (generation != batchGeneration) {
+                return;
+            }
+            if (find(position, batchGeneration) != null) {
+                continue;
+            }
+            String text;
+            try {
+                text = pipeline.convert(source.getText(position));
+            } catch (RuntimeException e) {
+                //the data changed under the batch, the main thread converts on bind
+                return;
+            }
+            entries.set(slot(position), new Entry(position, batchGeneration, text));
+        }
+    }
+
+    private Entry find(int position, int generation) {
+        if (position < 0) {
+            return null;
+        }
+        Entry entry = entries.get(slot(position));
+        return entry != null && entry.position == position && entry.generation == generation ? entry : null;
+    }
+
+    private int slot(int position) {
+        return position % entries.length();
+    }
+
+    private static final class Entry {
+        final int position;
+        final int generation;
+        final String text;
+
+        Entry(int position, int generation, String text) {
+            this.position = position;
+            this.generation = generation;
+            this.text = text;
+        }
+    }
+}
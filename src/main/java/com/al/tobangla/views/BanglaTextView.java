@@ -2,26 +2,41 @@ package com.al.tobangla.views;
 
 import android.content.Context;
 import android.content.res.TypedArray;
+import android.os.SystemClock;
 import android.support.v7.widget.AppCompatTextView;
 import android.util.AttributeSet;
 
 import com.al.tobangla.R;
-import com.al.tobangla.processor.ToBangla;
+import com.al.tobangla.processor.ConversionPipeline;
+import com.al.tobangla.processor.ConversionPipelines;
+import com.al.tobangla.processor.DurationBuffer;
+import com.al.tobangla.processor.MaskFormatter;
 import com.al.tobangla.utils.ProcessType;
 
-import static com.al.tobangla.utils.ProcessType.ORDINAL_INDICATOR_FOR_DATE;
-import static com.al.tobangla.utils.ProcessType.ORDINAL_INDICATOR_FOR_NUMERIC_ORDER;
-
 /**
  * Created by User on 24/1/2018.
  */
 
 public class BanglaTextView extends AppCompatTextView {
 
+    private static final int NO_PIPELINE = 0;
+
     private ProcessType processType;
-    private ToBangla toBangla;
-    private final String WHITE_SPACE = " ";
-    private final String Tk = "৳" + WHITE_SPACE;
+    private int pipelineId = NO_PIPELINE;
+    private String mask = MaskFormatter.DEFAULT_MASK;
+
+    //COUNTDOWN and STOPWATCH state, the buffer is rewritten in place on every tick
+    private DurationBuffer timerBuffer;
+    //elapsedRealtime the countdown ends or the stopwatch started at
+    private long timerBase;
+    private boolean timerRunning;
+    private boolean attached;
+    private final Runnable ticker = new Runnable() {
+        @Override
+        public void run() {
+            tick();
+        }
+    };
 
     public void setProcessType(ProcessType processType) {
         this.processType = processType;
@@ -31,6 +46,28 @@ public class BanglaTextView extends AppCompatTextView {
         return processType;
     }
 
+    /*
+    * @param id of a pipeline registered in ConversionPipelines, used instead of the process type
+    */
+    public void setPipelineId(int pipelineId) {
+        this.pipelineId = pipelineId;
+    }
+
+    public int getPipelineId() {
+        return pipelineId;
+    }
+
+    /*
+    * @param mask of the MASK process type, '#' for a digit, anything else as is
+    */
+    public void setMask(String mask) {
+        this.mask = mask;
+    }
+
+    public String getMask() {
+        return mask;
+    }
+
     public BanglaTextView(Context context) {
         super(context, null);
     }
@@ -48,76 +85,158 @@ public class BanglaTextView extends AppCompatTextView {
     }
 
     private void init(Context context, AttributeSet attrs) {
-        toBangla = ToBangla.getInstance();
+        boolean traced = BanglaTrace.begin(BanglaTrace.ATTRS);
 
         TypedArray typedArray = context.obtainStyledAttributes(attrs, R.styleable.BanglaTextView);
 
         int processTypeVal = typedArray.getInt(R.styleable.BanglaTextView_processType, 0);
-
-        for (ProcessType pt : ProcessType.values()) {
-            if (pt.getValue() == processTypeVal) {
-                processType = pt;
-                break;
-            }
+        pipelineId = typedArray.getInt(R.styleable.BanglaTextView_pipelineId, NO_PIPELINE);
+        String maskAttr = typedArray.getString(R.styleable.BanglaTextView_mask);
+        if (maskAttr != null) {
+            mask = maskAttr;
         }
 
+        processType = ProcessType.fromValue(processTypeVal);
+
         typedArray.recycle();
 
-        processText(getText().toString());
-    }
+        BanglaTrace.end(traced);
 
-    private void processText(String text) {
-        String value;
+        if (isTimer()) {
+            startTimer(DurationBuffer.parseSeconds(getText().toString()) * 1000);
+        } else {
+            processText(getText().toString());
+        }
+    }
 
-        switch (processType) {
+    /*
+    * Shows the converted text of a list item, prefetching the rows after it. A running
+    * timer is stopped, it would overwrite the item's text on its next tick
+    * @param cache of the list
+    * @param adapter position of the item
+    */
+    public void bind(BanglaPrefetchCache cache, int position) {
+        if (timerRunning) {
+            stopTimer();
+        }
+        cache.onBind(position);
+        String text = cache.get(position);
 
-            case DATE:
-                value = toBangla.getDate(text);
-                break;
+        boolean traced = BanglaTrace.begin(BanglaTrace.SET_TEXT);
+        setText(text);
+        BanglaTrace.end(traced);
+    }
 
-            case NUMBER:
-                value = toBangla.getNumber(text);
-                break;
+    /*
+    * Starts ticking for the COUNTDOWN and STOPWATCH process types, once a second while
+    * the view is attached to a window
+    * @param countdown duration or stopwatch start, in millis
+    */
+    public void startTimer(long millis) {
+        if (!isTimer()) {
+            throw new IllegalStateException("startTimer needs COUNTDOWN or STOPWATCH, not " + processType);
+        }
+        if (timerBuffer == null) {
+            timerBuffer = new DurationBuffer();
+        }
+        long now = SystemClock.elapsedRealtime();
+        timerBase = processType == ProcessType.COUNTDOWN ? now + millis : now - millis;
+        timerRunning = true;
+        removeCallbacks(ticker);
+        tick();
+    }
 
-            case TIME:
-                value = toBangla.getNumber(text);
-                break;
+    /*
+    * Stops ticking, the last shown value stays
+    */
+    public void stopTimer() {
+        timerRunning = false;
+        removeCallbacks(ticker);
+    }
 
-            case AMOUNT:
-                value = Tk + toBangla.getNumber(text);
-                break;
+    public boolean isTimerRunning() {
+        return timerRunning;
+    }
 
-            case ORDINAL_INDICATOR_FOR_DATE:
-                value = toBangla.getOrdinalIndicator(text, ORDINAL_INDICATOR_FOR_DATE);
-                break;
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        attached = true;
+        if (timerRunning) {
+            //catch up with the time spent detached
+            tick();
+        }
+    }
 
-            case ORDINAL_INDICATOR_FOR_NUMERIC_ORDER:
-                value = toBangla.getOrdinalIndicator(text, ORDINAL_INDICATOR_FOR_NUMERIC_ORDER);
-                break;
+    @Override
+    protected void onDetachedFromWindow() {
+        attached = false;
+        removeCallbacks(ticker);
+        super.onDetachedFromWindow();
+    }
 
-            case ORDINAL_INDICATOR_TODAY:
-                value = toBangla.getTodayDate();
-                break;
+    private boolean isTimer() {
+        return pipelineId == NO_PIPELINE
+                && (processType == ProcessType.COUNTDOWN || processType == ProcessType.STOPWATCH);
+    }
 
-            case TODAY:
-                value = toBangla.getToday();
-                break;
+    private void tick() {
+        long now = SystemClock.elapsedRealtime();
+        long seconds;
+        //millis until the shown second changes
+        long delay;
+        if (processType == ProcessType.COUNTDOWN) {
+            long remaining = timerBase - now;
+            if (remaining <= 0) {
+                seconds = 0;
+                delay = 0;
+                timerRunning = false;
+            } else {
+                seconds = (remaining + 999) / 1000;
+                delay = remaining % 1000 == 0 ? 1000 : remaining % 1000;
+            }
+        } else {
+            long elapsed = now - timerBase;
+            seconds = elapsed / 1000;
+            delay = 1000 - elapsed % 1000;
+        }
 
-            case TIME_NOW:
-                value = toBangla.getCurrentTime();
-                break;
+        if (timerBuffer.set(seconds)) {
+            boolean traced = BanglaTrace.begin(BanglaTrace.SET_TEXT);
+            setText(timerBuffer.getChars(), 0, timerBuffer.length());
+            BanglaTrace.end(traced);
+        }
+        if (timerRunning && attached) {
+            postDelayed(ticker, delay);
+        }
+    }
 
-            case NOW_DATE_TIME:
-                value = toBangla.getTodayDate() + WHITE_SPACE + toBangla.getCurrentTime();
-                break;
+    private void processText(String text) {
+        ConversionPipeline pipeline = null;
+
+        if (pipelineId != NO_PIPELINE) {
+            pipeline = ConversionPipelines.get(pipelineId);
+        } else if (processType == ProcessType.MASK) {
+            //compiled masks are cached, so this is a lookup after the first view
+            pipeline = MaskFormatter.compile(mask).getPipeline();
+        } else if (processType != null) {
+            pipeline = ConversionPipelines.get(processType);
+        }
 
-            default:
-                value = text;
-                break;
+        String value = text;
+        if (pipeline != null) {
+            boolean convertTraced = BanglaTrace.begin(
+                    BanglaTrace.convertSection(pipelineId != NO_PIPELINE ? null : processType));
+            try {
+                value = pipeline.convert(text);
+            } finally {
+                BanglaTrace.end(convertTraced);
+            }
         }
+
+        boolean traced = BanglaTrace.begin(BanglaTrace.SET_TEXT);
         setText(value);
+        BanglaTrace.end(traced);
     }
 
-
-
 }
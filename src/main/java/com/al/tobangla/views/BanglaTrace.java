@@ -0,0 +1,108 @@
+package com.al.tobangla.views;
+
+import android.os.Build;
+import android.os.Trace;
+
+import com.al.tobangla.utils.ProcessType;
+
+/**
+ * Optional android.os.Trace sections and counters for the work BanglaTextView does,
+ * so it shows up in systrace / Perfetto. Off by default, when off every hook is a
+ * single static flag check.
+ * <p>
+ * Sections: BanglaTextView#attrs for attribute parsing, BanglaTextView#convert:TYPE per
+ * process type (or :pipeline for custom pipelines) and BanglaTextView#setText.
+ */
+public final class BanglaTrace {
+
+    static final String ATTRS = "BanglaTextView#attrs";
+    static final String SET_TEXT = "BanglaTextView#setText";
+    static final String CONVERT_PIPELINE = "BanglaTextView#convert:pipeline";
+
+    //section names by ProcessType ordinal, built once so tracing doesn't allocate
+    private static final String[] CONVERT_SECTIONS = buildConvertSections();
+
+    private static boolean enabled;
+
+    private static long inflateCount;
+    private static long convertCount;
+    private static long bindCount;
+
+    private BanglaTrace() {
+    }
+
+    public static void setEnabled(boolean enabled) {
+        BanglaTrace.enabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /*
+    * @return number of BanglaTextViews inflated from XML while tracing
+    */
+    public static long getInflateCount() {
+        return inflateCount;
+    }
+
+    /*
+    * @return number of conversions while tracing
+    */
+    public static long getConvertCount() {
+        return convertCount;
+    }
+
+    /*
+    * @return number of converted texts applied while tracing
+    */
+    public static long getBindCount() {
+        return bindCount;
+    }
+
+    public static void resetCounters() {
+        inflateCount = 0;
+        convertCount = 0;
+        bindCount = 0;
+    }
+
+    static String convertSection(ProcessType processType) {
+        return processType != null ? CONVERT_SECTIONS[processType.ordinal()] : CONVERT_PIPELINE;
+    }
+
+    /*
+    * @return true when a section was started and has to be ended
+    */
+    static boolean begin(String section) {
+        if (!enabled) {
+            return false;
+        }
+        if (section == ATTRS) {
+            inflateCount++;
+        } else if (section == SET_TEXT) {
+            bindCount++;
+        } else {
+            convertCount++;
+        }
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN_MR2) {
+            return false;
+        }
+        Trace.beginSection(section);
+        return true;
+    }
+
+    static void end(boolean begun) {
+        if (begun) {
+            Trace.endSection();
+        }
+    }
+
+    private static String[] buildConvertSections() {
+        ProcessType[] processTypes = ProcessType.values();
+        String[] sections = new String[processTypes.length];
+        for (ProcessType processType : processTypes) {
+            sections[processType.ordinal()] = "BanglaTextView#convert:" + processType.name();
+        }
+        return sections;
+    }
+}
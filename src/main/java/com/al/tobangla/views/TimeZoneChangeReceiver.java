@@ -0,0 +1,21 @@
+package com.al.tobangla.views;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+
+import com.al.tobangla.processor.ToBangla;
+
+/**
+ * Refreshes the time zone ToBangla caches for its epoch millis methods when the device
+ * zone changes. Declared in the library manifest, apps get it merged in.
+ */
+public class TimeZoneChangeReceiver extends BroadcastReceiver {
+
+    @Override
+    public void onReceive(Context context, Intent intent) {
+        if (Intent.ACTION_TIMEZONE_CHANGED.equals(intent.getAction())) {
+            ToBangla.getInstance().refreshTimeZone();
+        }
+    }
+}
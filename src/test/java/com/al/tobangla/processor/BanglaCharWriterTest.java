@@ -0,0 +1,26 @@
+package com.al.tobangla.processor;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+
+public class BanglaCharWriterTest {
+
+    private static final long[] NUMBERS = {0, 1, -1, 9, 10, -10, 99, 100, 1234567, -1234567, 1000000000000000000L,
+            999999999999999999L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1};
+
+    @Test
+    public void appendNumberMatchesWriteNumber() throws IOException {
+        char[] buffer = new char[BanglaCharWriter.MAX_NUMBER_LENGTH];
+        for (long number : NUMBERS) {
+            StringBuilder out = new StringBuilder();
+            BanglaCharWriter.appendNumber(number, out);
+
+            int length = BanglaCharWriter.writeNumber(number, buffer, 0);
+            assertEquals(new String(buffer, 0, length), out.toString());
+            assertEquals(ToBangla.getInstance().getNumber(Long.toString(number)), out.toString());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.al.tobangla.processor;
+
+import com.al.tobangla.utils.ProcessType;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class BanglaConverterTest {
+
+    private static final String[] DAYS = {"Sunday", "monday", " TUESDAY ", "wednesday", "thursday", "friday",
+            "saturday"};
+    private static final String[] MONTHS = {"January", "feb", " MARCH ", "april", "may", "june", "jul", "aug",
+            "september", "sep", "oct", "november", "dec"};
+    private static final String[] OTHER_NAMES = {"sun", "Mon", "sept", "SEPT", "foo", ""};
+
+    @Test
+    public void defaultMatchesToBangla() {
+        ToBangla toBangla = ToBangla.getInstance();
+        BanglaConverter converter = BanglaConverter.getDefault();
+
+        for (String day : DAYS) {
+            assertEquals(day, toBangla.getDay(day), converter.getDay(day));
+        }
+        for (String month : MONTHS) {
+            assertEquals(month, toBangla.getMonth(month), converter.getMonth(month));
+        }
+        for (int month = -1; month <= 13; month++) {
+            assertEquals(toBangla.getMonthByNumber(String.valueOf(month)), converter.getMonth(month));
+        }
+        for (int number = -5; number <= 250; number++) {
+            assertEquals(toBangla.getNumericOrderIndicator(String.valueOf(number)),
+                    converter.getNumericOrderIndicator(number));
+        }
+        for (int day = -1; day <= 40; day++) {
+            assertEquals(toBangla.getNumericCalendarIndicator(String.valueOf(day)),
+                    converter.getNumericCalendarIndicator(day));
+        }
+        assertEquals(toBangla.getBanglaOrdinalDate("2018-01-21"), converter.getOrdinalDate(2018, 1, 21));
+        assertEquals(toBangla.getNumber("1234.50"), converter.getNumber("1234.50"));
+    }
+
+    @Test
+    public void defaultIsBuilderDefault() {
+        BanglaConverter converter = BanglaConverter.getDefault();
+        BanglaConverter built = new BanglaConverter.Builder().build();
+        for (String[] names : new String[][]{DAYS, MONTHS, OTHER_NAMES}) {
+            for (String name : names) {
+                assertEquals(name, built.getDay(name), converter.getDay(name));
+                assertEquals(name, built.getMonth(name), converter.getMonth(name));
+            }
+        }
+        assertEquals(built.getAmount("120"), converter.getAmount("120"));
+        assertEquals(built.getOrdinalDate(2018, 9, 1), converter.getOrdinalDate(2018, 9, 1));
+    }
+
+    @Test
+    public void amountPipelineBacksAmountProcessType() {
+        BanglaConverter converter = BanglaConverter.getDefault();
+        assertSame(converter.getAmountPipeline(), ConversionPipelines.get(ProcessType.AMOUNT));
+        assertEquals("৳ ১২৩৪.৫০", converter.getAmount("1234.50"));
+
+        BanglaConverter taka = new BanglaConverter.Builder()
+                .currencyStyle(BanglaConverter.CurrencyStyle.TAKA_SUFFIX)
+                .build();
+        assertEquals("১২০ টাকা", taka.getAmountPipeline().convert("120"));
+    }
+
+    @Test
+    public void abbreviationsByDefault() {
+        BanglaConverter converter = BanglaConverter.getDefault();
+        assertEquals("রবিবার", converter.getDay("sun"));
+        assertEquals("রবিবার", converter.getDay(" SUN "));
+        assertEquals("Wrong Format", converter.getDay("foo"));
+        assertEquals("Wrong Format", converter.getDay(""));
+        assertEquals("সেপ্টেম্বর", converter.getMonth("sept"));
+        assertEquals("সেপ্টেম্বর", converter.getMonth("Sep"));
+        assertEquals("Wrong Format", converter.getMonth("foo"));
+    }
+
+    @Test
+    public void fullNamesOnly() {
+        BanglaConverter converter = new BanglaConverter.Builder()
+                .nameMatching(BanglaConverter.NameMatching.FULL_NAMES)
+                .errorPolicy(BanglaConverter.ErrorPolicy.RETURN_INPUT)
+                .build();
+        assertEquals("রবিবার", converter.getDay("Sunday"));
+        assertEquals("sun", converter.getDay("sun"));
+        assertEquals("সেপ্টেম্বর", converter.getMonth("SEPTEMBER"));
+        assertEquals("sep", converter.getMonth("sep"));
+        assertEquals("sept", converter.getMonth("sept"));
+    }
+
+    @Test
+    public void otherScriptsRejectOrdinals() {
+        BanglaConverter hindi = new BanglaConverter.Builder()
+                .script(DigitScript.DEVANAGARI_HINDI)
+                .errorPolicy(BanglaConverter.ErrorPolicy.RETURN_INPUT)
+                .build();
+        assertEquals("१२३", hindi.getNumber("123"));
+        assertEquals("1", hindi.getNumericOrderIndicator(1));
+        assertEquals("21", hindi.getNumericCalendarIndicator(21));
+        assertEquals("2018-1-21", hindi.getOrdinalDate(2018, 1, 21));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void otherScriptsThrowOnOrdinals() {
+        new BanglaConverter.Builder()
+                .script(DigitScript.ARABIC_INDIC)
+                .errorPolicy(BanglaConverter.ErrorPolicy.THROW)
+                .build()
+                .getNumericOrderIndicator(1);
+    }
+}
@@ -0,0 +1,116 @@
+package com.al.tobangla.processor;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BanglaDateParserTest {
+
+    private static void assertDate(String text, int year, int month, int day) {
+        BanglaDateParser.Result result = new BanglaDateParser.Result();
+        assertTrue(text, BanglaDateParser.parse(text, result));
+        assertEquals(text, year, result.getYear());
+        assertEquals(text, month, result.getMonth());
+        assertEquals(text, day, result.getDay());
+    }
+
+    private static void assertStatus(String text, int status) {
+        BanglaDateParser.Result result = new BanglaDateParser.Result();
+        assertFalse(text, BanglaDateParser.parse(text, result));
+        assertEquals(text, status, result.getStatus());
+    }
+
+    @Test
+    public void roundTripsOrdinalDates() {
+        ToBangla toBangla = ToBangla.getInstance();
+        for (long epochDay = CivilDate.toEpochDay(1900, 1, 1); epochDay <= CivilDate.toEpochDay(2100, 12, 31); epochDay += 3) {
+            int date = CivilDate.fromEpochDay(epochDay);
+            String iso = String.format("%04d-%02d-%02d", CivilDate.year(date), CivilDate.month(date), CivilDate.day(date));
+            String ordinal = toBangla.getBanglaOrdinalDate(iso);
+
+            assertEquals(ordinal, epochDay, BanglaDateParser.parseEpochDay(ordinal));
+            assertEquals(iso, epochDay, BanglaDateParser.parseEpochDay(iso));
+        }
+    }
+
+    @Test
+    public void parsesKnownForms() {
+        assertDate("২১শে জানুয়ারী, ২০১৮", 2018, 1, 21);
+        assertDate("21st January 2018", 2018, 1, 21);
+        assertDate("21 jan 2018", 2018, 1, 21);
+        assertDate("২১/০১/২০১৮", 2018, 1, 21);
+        assertDate("2018-01-21", 2018, 1, 21);
+        assertDate("১লা সেপ্টেম্বর, ২০১৮", 2018, 9, 1);
+        assertDate("1 Sept 2018", 2018, 9, 1);
+        assertDate("999-01-01", 999, 1, 1);
+    }
+
+    @Test
+    public void parsesSpellingVariants() {
+        //য় as য + nukta and precomposed
+        assertDate("২১শে জানু\u09AF\u09BCারী, ২০১৮", 2018, 1, 21);
+        assertDate("২১শে জানু\u09DFারী, ২০১৮", 2018, 1, 21);
+        //ী and ি endings
+        assertDate("২১শে জানুয়ারি, ২০১৮", 2018, 1, 21);
+        assertDate("২রা ফেব্রুয়ারী, ২০১৮", 2018, 2, 2);
+        assertDate("২রা ফেব্রুয়ারি, ২০১৮", 2018, 2, 2);
+        //অগাস্ট and আগস্ট
+        assertDate("১৫ই অগাস্ট, ২০১৮", 2018, 8, 15);
+        assertDate("১৫ই আগস্ট, ২০১৮", 2018, 8, 15);
+    }
+
+    @Test
+    public void rejectsEmpty() {
+        assertStatus("", BanglaDateParser.EMPTY);
+        assertStatus(" ,/ ", BanglaDateParser.EMPTY);
+    }
+
+    @Test
+    public void rejectsInvalidDay() {
+        assertStatus("জানুয়ারী ২০১৮", BanglaDateParser.INVALID_DAY);
+        assertStatus("32 January 2018", BanglaDateParser.INVALID_DAY);
+        assertStatus("0/01/2018", BanglaDateParser.INVALID_DAY);
+        assertStatus("21x January 2018", BanglaDateParser.INVALID_DAY);
+        assertStatus("2018-01", BanglaDateParser.INVALID_DAY);
+    }
+
+    @Test
+    public void rejectsInvalidMonth() {
+        assertStatus("21 Foo 2018", BanglaDateParser.INVALID_MONTH);
+        assertStatus("21/13/2018", BanglaDateParser.INVALID_MONTH);
+        assertStatus("21/00/2018", BanglaDateParser.INVALID_MONTH);
+        assertStatus("2018", BanglaDateParser.INVALID_MONTH);
+    }
+
+    @Test
+    public void rejectsInvalidYear() {
+        assertStatus("21 January", BanglaDateParser.INVALID_YEAR);
+        assertStatus("21-01-0", BanglaDateParser.INVALID_YEAR);
+        assertStatus("21-01-10000", BanglaDateParser.INVALID_YEAR);
+        assertStatus("0000-01-01", BanglaDateParser.INVALID_YEAR);
+        assertStatus("10000-01-01", BanglaDateParser.INVALID_YEAR);
+        assertStatus("99999999999999999999999-01-01", BanglaDateParser.INVALID_YEAR);
+        assertStatus("21 January 99999999999999999999999", BanglaDateParser.INVALID_YEAR);
+    }
+
+    @Test
+    public void rejectsInvalidDate() {
+        assertStatus("30 February 2018", BanglaDateParser.INVALID_DATE);
+        assertStatus("29/02/2019", BanglaDateParser.INVALID_DATE);
+        assertStatus("31-04-2018", BanglaDateParser.INVALID_DATE);
+        assertDate("29/02/2020", 2020, 2, 29);
+    }
+
+    @Test
+    public void rejectsUnexpectedText() {
+        assertStatus("2018-01-21 x", BanglaDateParser.UNEXPECTED_TEXT);
+        assertStatus("২১শে জানুয়ারী, ২০১৮ সাল", BanglaDateParser.UNEXPECTED_TEXT);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseEpochDayThrowsOnInvalid() {
+        BanglaDateParser.parseEpochDay("21-01-0");
+    }
+}
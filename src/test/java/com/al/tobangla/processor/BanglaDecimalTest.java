@@ -0,0 +1,183 @@
+package com.al.tobangla.processor;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BanglaDecimalTest {
+
+    private static final double[] DOUBLES = {
+            0.1 + 0.2, 0.1, 0.5, 1, 10, 100, 1.5, 123.456, 1e-7, 1.2345e-10, 9.999999999999999e22,
+            Double.MIN_VALUE, Double.MIN_NORMAL, Double.MIN_NORMAL / 3, Double.MAX_VALUE, -Double.MAX_VALUE,
+            9007199254740991d, 9007199254740992d, 9007199254740992d * 3, 1152921504606846976d, 9.2e18, 1e19, 1e23, (double) Long.MAX_VALUE,
+            -0.0, 0.0, -1.5, -0.001
+    };
+
+    private static final float[] FLOATS = {
+            0.1f + 0.2f, 0.1f, 0.5f, 1f, 1.5f, 123.456f, 1e-7f, 3.4028235e38f, -3.4028235e38f,
+            Float.MIN_VALUE, Float.MIN_NORMAL, Float.MIN_NORMAL / 3, 16777216f, 16777217f, 1e10f,
+            -0.0f, 0.0f, -1.5f, 0.3f
+    };
+
+    /*
+    * @return the bangla digits as EN-US digits
+    */
+    private static String ascii(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            out.append(c >= BanglaDigits.ZERO && c <= BanglaDigits.ZERO + 9 ? (char) ('0' + c - BanglaDigits.ZERO) : c);
+        }
+        return out.toString();
+    }
+
+    /*
+    * @return number of significant digits of a decimal
+    */
+    private static int significantDigits(BigDecimal value) {
+        return value.signum() == 0 ? 1 : value.stripTrailingZeros().precision();
+    }
+
+    private static void assertDouble(double value) {
+        String formatted = BanglaDecimal.format(value);
+        String text = ascii(formatted);
+        assertTrue(formatted, text.matches("-?\\d+(\\.\\d+)?"));
+        assertTrue(formatted, !text.contains(".") || !text.endsWith("0"));
+
+        //parses back to the same value, -0.0 is written as 0
+        assertTrue(value + " " + formatted, Double.parseDouble(text) == value);
+
+        //no more digits than Double.toString needs
+        int expected = significantDigits(new BigDecimal(Double.toString(value)));
+        assertTrue(value + " " + formatted, significantDigits(new BigDecimal(text)) <= expected);
+    }
+
+    private static void assertFloat(float value) {
+        String formatted = BanglaDecimal.format(value);
+        String text = ascii(formatted);
+        assertTrue(formatted, text.matches("-?\\d+(\\.\\d+)?"));
+        assertTrue(formatted, !text.contains(".") || !text.endsWith("0"));
+
+        assertTrue(value + " " + formatted, Float.parseFloat(text) == value);
+
+        int expected = significantDigits(new BigDecimal(Float.toString(value)));
+        assertTrue(value + " " + formatted, significantDigits(new BigDecimal(text)) <= expected);
+    }
+
+    @Test
+    public void edgeDoubles() {
+        for (double value : DOUBLES) {
+            assertDouble(value);
+        }
+        assertEquals("০.৩০০০০০০০০০০০০০০০৪", BanglaDecimal.format(0.1 + 0.2));
+        assertEquals("১.৫", BanglaDecimal.format(1.5));
+        assertEquals("০", BanglaDecimal.format(-0.0));
+        assertEquals("NaN", BanglaDecimal.format(Double.NaN));
+        assertEquals("∞", BanglaDecimal.format(Double.POSITIVE_INFINITY));
+        assertEquals("-∞", BanglaDecimal.format(Double.NEGATIVE_INFINITY));
+        //2^60, trailing digits beyond what the double holds are rounded away
+        assertEquals("১১৫২৯২১৫০৪৬০৬৮৪৭০০০", BanglaDecimal.format(1152921504606846976d));
+    }
+
+    @Test
+    public void edgeFloats() {
+        for (float value : FLOATS) {
+            assertFloat(value);
+        }
+        assertEquals("০.৩", BanglaDecimal.format(0.3f));
+        assertEquals("১.৫", BanglaDecimal.format(1.5f));
+        assertEquals("NaN", BanglaDecimal.format(Float.NaN));
+        assertEquals("-∞", BanglaDecimal.format(Float.NEGATIVE_INFINITY));
+        assertEquals("১৫০০৫৮৫০০০০০", BanglaDecimal.format(1.500585E11f));
+
+        StringBuilder out = new StringBuilder();
+        BanglaDecimal.appendShortest(0.1f, out);
+        assertEquals("০.১", out.toString());
+    }
+
+    @Test
+    public void randomDoubles() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            //any bit pattern, and prices with a few fraction digits
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+                assertDouble(value);
+            }
+            assertDouble(random.nextInt(100000000) / 100.0);
+            assertDouble(random.nextDouble() * 1000);
+        }
+    }
+
+    @Test
+    public void randomFloats() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            float value = Float.intBitsToFloat(random.nextInt());
+            if (!Float.isNaN(value) && !Float.isInfinite(value)) {
+                assertFloat(value);
+            }
+            assertFloat(random.nextInt(1000000) / 100f);
+            assertFloat(random.nextFloat() * 1000);
+        }
+    }
+
+    /*
+    * @return value rounded the way BanglaDecimal.formatFixed documents it, in EN-US digits
+    */
+    private static String exactFixed(double value, int scale) {
+        return new BigDecimal(value).setScale(scale, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    @Test
+    public void fixedRoundsTheExactValue() {
+        //66.0325 is stored as 66.03249999..., the scaled double is 66032.5
+        assertEquals("৬৬.০৩২", BanglaDecimal.formatFixed(66.0325, 3));
+        assertEquals("১.০০৪", BanglaDecimal.formatFixed(1.0045, 3));
+        //an exact half rounds up
+        assertEquals("১.০৬৩", BanglaDecimal.formatFixed(1.0625, 3));
+        assertEquals("২.৫", BanglaDecimal.formatFixed(2.5, 1));
+        assertEquals("৩", BanglaDecimal.formatFixed(2.5, 0));
+        assertEquals("-৩", BanglaDecimal.formatFixed(-2.5, 0));
+        assertEquals("০.০০", BanglaDecimal.formatFixed(-0.001, 2));
+        //all digits of the double, not only the ones Double.toString needs
+        assertEquals("1234567890123456824475648.0", ascii(BanglaDecimal.formatFixed(1.2345678901234568e24, 1)));
+        assertEquals("NaN", BanglaDecimal.formatFixed(Double.NaN, 2));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            int scale = random.nextInt(6);
+            //prices typed with one more digit than shown land on halves
+            double value = random.nextInt(10000000) / Math.pow(10, scale + 1) + (random.nextBoolean() ? 0 : 5 / Math.pow(10, scale + 1));
+            assertEquals(value + " " + scale, exactFixed(value, scale), ascii(BanglaDecimal.formatFixed(value, scale)));
+            double any = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(20));
+            assertEquals(any + " " + scale, exactFixed(any, scale), ascii(BanglaDecimal.formatFixed(any, scale)));
+        }
+    }
+
+    @Test
+    public void percentRoundsTheExactRatio() {
+        assertEquals("১২.৫%", BanglaDecimal.formatPercent(0.125, 1));
+        assertEquals("১৩%", BanglaDecimal.formatPercent(0.125, 0));
+        assertEquals("NaN", BanglaDecimal.formatPercent(Double.NaN, 0));
+        assertEquals("∞%", BanglaDecimal.formatPercent(Double.POSITIVE_INFINITY, 0));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            int scale = random.nextInt(18);
+            double ratio = random.nextInt(100000) / 10000.0;
+            String expected = new BigDecimal(ratio).movePointRight(2).setScale(scale, RoundingMode.HALF_UP).toPlainString();
+            assertEquals(ratio + " " + scale, expected + "%", ascii(BanglaDecimal.formatPercent(ratio, scale)));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsScaleBeyondMax() {
+        BanglaDecimal.formatFixed(1, 18);
+    }
+}
@@ -0,0 +1,121 @@
+package com.al.tobangla.processor;
+
+import org.junit.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class BanglaDigitSequenceTest {
+
+    private static void assertOutOfBounds(Runnable access) {
+        try {
+            access.run();
+            fail("no IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException expected) {
+            //expected
+        }
+    }
+
+    @Test
+    public void mapsDigitsOnAccess() {
+        BanglaDigitSequence sequence = new BanglaDigitSequence("a1 b20");
+        assertEquals(6, sequence.length());
+        assertEquals('a', sequence.charAt(0));
+        assertEquals('১', sequence.charAt(1));
+        assertEquals('০', sequence.charAt(5));
+        assertEquals("a১ b২০", sequence.toString());
+    }
+
+    @Test
+    public void subSequenceSharesTheSource() {
+        StringBuilder source = new StringBuilder("x 123 y 456");
+        CharSequence sub = new BanglaDigitSequence(source).subSequence(2, 9);
+        assertEquals("১২৩ y ৪", sub.toString());
+        assertEquals("২৩", sub.subSequence(1, 3).toString());
+        assertEquals("", sub.subSequence(7, 7).toString());
+
+        //later changes of the source show through
+        source.setCharAt(3, '9');
+        assertEquals('৯', sub.charAt(1));
+    }
+
+    @Test
+    public void getCharsConvertsTheRange() {
+        BanglaDigitSequence sequence = new BanglaDigitSequence("ab0123456789cd");
+        char[] dest = {'-', '-', '-', '-', '-'};
+        sequence.getChars(3, 6, dest, 1);
+        assertEquals("-১২৩-", new String(dest));
+
+        //not a String or StringBuilder source
+        CharSequence sub = new BanglaDigitSequence(sequence.subSequence(2, 12)).subSequence(8, 10);
+        assertEquals("৮৯", sub.toString());
+    }
+
+    @Test
+    public void writesInChunks() throws Exception {
+        StringBuilder source = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            source.append(i % 10);
+            expected.append((char) ('০' + i % 10));
+        }
+        StringWriter writer = new StringWriter();
+        new BanglaDigitSequence(source).writeTo(writer);
+        assertEquals(expected.toString(), writer.toString());
+
+        writer = new StringWriter();
+        new BanglaDigitSequence("").writeTo(writer);
+        assertEquals("", writer.toString());
+    }
+
+    @Test
+    public void checksBounds() {
+        final BanglaDigitSequence sequence = new BanglaDigitSequence("0123456789");
+        final CharSequence sub = sequence.subSequence(2, 5);
+        assertOutOfBounds(new Runnable() {
+            @Override
+            public void run() {
+                sequence.charAt(-1);
+            }
+        });
+        assertOutOfBounds(new Runnable() {
+            @Override
+            public void run() {
+                sequence.charAt(10);
+            }
+        });
+        //within the source, beyond the sub sequence
+        assertOutOfBounds(new Runnable() {
+            @Override
+            public void run() {
+                sub.charAt(3);
+            }
+        });
+        assertOutOfBounds(new Runnable() {
+            @Override
+            public void run() {
+                sequence.subSequence(-1, 2);
+            }
+        });
+        assertOutOfBounds(new Runnable() {
+            @Override
+            public void run() {
+                sequence.subSequence(3, 2);
+            }
+        });
+        assertOutOfBounds(new Runnable() {
+            @Override
+            public void run() {
+                sub.subSequence(0, 4);
+            }
+        });
+        assertOutOfBounds(new Runnable() {
+            @Override
+            public void run() {
+                sequence.getChars(5, 11, new char[10], 0);
+            }
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package com.al.tobangla.processor;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BanglaNaturalComparatorTest {
+
+    private static final BanglaNaturalComparator COMPARATOR = BanglaNaturalComparator.INSTANCE;
+
+    private static int sign(int value) {
+        return Integer.signum(value);
+    }
+
+    @Test
+    public void comparesDigitRunsByValue() {
+        List<String> sorted = Arrays.asList("ফাইল ২", "ফাইল 9", "ফাইল ১০", "ফাইল 11", "ফাইল ১০০");
+        List<String> shuffled = new ArrayList<>(sorted);
+        Collections.shuffle(shuffled, new Random(42));
+        Collections.sort(shuffled, COMPARATOR);
+        assertEquals(sorted, shuffled);
+
+        assertTrue(COMPARATOR.compare("২", "১০") < 0);
+        assertTrue(COMPARATOR.compare("a10b2", "a10b10") < 0);
+        assertTrue(COMPARATOR.compare("a", "a1") < 0);
+        assertTrue(COMPARATOR.compare("1a", "1") > 0);
+    }
+
+    @Test
+    public void ignoresScriptAndLeadingZeros() {
+        assertEquals(0, COMPARATOR.compare("০৭", "7"));
+        assertEquals(0, COMPARATOR.compare("রোল ০০১২", "রোল 12"));
+        assertEquals(0, COMPARATOR.compare("0", "০০০"));
+        assertEquals(0, COMPARATOR.compare("", ""));
+        assertTrue(COMPARATOR.compare("0", "") > 0);
+    }
+
+    @Test
+    public void comparesOtherCharsByValue() {
+        assertTrue(COMPARATOR.compare("a1", "b1") < 0);
+        assertTrue(COMPARATOR.compare("কখ", "কগ") < 0);
+        //a digit sorts as its EN-US char next to letters
+        assertEquals(sign("1".compareTo("a")), sign(COMPARATOR.compare("১", "a")));
+    }
+
+    @Test
+    public void normalizeMatchesCompare() {
+        String[] texts = {"০৭", "7", "007", "৭০", "a০1", "a1", "a01b", "a1b", "", "0", "০০", "x১২y৩", "x12y03"};
+        for (String left : texts) {
+            for (String right : texts) {
+                boolean equal = COMPARATOR.compare(left, right) == 0;
+                assertEquals(left + " " + right, equal, BanglaNaturalComparator.normalize(left)
+                        .equals(BanglaNaturalComparator.normalize(right)));
+                assertEquals(left + " " + right, -sign(COMPARATOR.compare(right, left)), sign(COMPARATOR.compare(left, right)));
+            }
+        }
+        assertEquals("x12y3", BanglaNaturalComparator.normalize("x১২y০৩"));
+        assertEquals("0", BanglaNaturalComparator.normalize("০০"));
+
+        StringBuilder key = new StringBuilder("k:");
+        BanglaNaturalComparator.normalize("০১", key);
+        assertEquals("k:1", key.toString());
+    }
+
+    @Test
+    public void agreesWithNumbersOnRandomInput() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            long left = random.nextInt(100000);
+            long right = random.nextInt(100000);
+            String leftText = "n" + ToBangla.getInstance().getNumber(Long.toString(left));
+            String rightText = "n" + (random.nextBoolean() ? "00" : "") + right;
+            assertEquals(leftText + " " + rightText, sign(Long.compare(left, right)), sign(COMPARATOR.compare(leftText, rightText)));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.al.tobangla.processor;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class CompactNumberFormatterTest {
+
+    private final CompactNumberFormatter formatter = CompactNumberFormatter.getInstance();
+
+    @Test
+    public void formatsWholeNumbers() {
+        assertEquals("১২ হাজার", formatter.format("12000"));
+        assertEquals("৩.৫ লাখ", formatter.format("3,50,000"));
+        assertEquals("২ কোটি", formatter.format("২০০০০০০০"));
+        assertEquals("১ লাখ", formatter.format("99999"));
+        assertEquals("-১২ হাজার", formatter.format("-12000"));
+    }
+
+    @Test
+    public void convertsDigitsOfOtherText() {
+        assertEquals("১.৫", formatter.format("1.5"));
+        assertEquals("১২৩৪.৫০", formatter.format("1234.50"));
+        assertEquals("১২ kg", formatter.format("12 kg"));
+        assertEquals("১২৩৪৫৬৭৮৯০১২৩৪৫৬৭৮৯০", formatter.format("1234567890123456789০"));
+        assertEquals("abc", formatter.format("abc"));
+        assertEquals("", formatter.format(""));
+    }
+}
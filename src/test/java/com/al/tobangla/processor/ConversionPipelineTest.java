@@ -0,0 +1,139 @@
+package com.al.tobangla.processor;
+
+import com.al.tobangla.utils.ProcessType;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class ConversionPipelineTest {
+
+    private static final CharConverterStage UPPER = new CharConverterStage() {
+        @Override
+        public char map(char c) {
+            return c >= 'a' && c <= 'z' ? (char) (c - 'a' + 'A') : c;
+        }
+    };
+
+    private static final CharConverterStage X_TO_5 = new CharConverterStage() {
+        @Override
+        public char map(char c) {
+            return c == 'X' ? '5' : c;
+        }
+    };
+
+    private static final ConverterStage REVERSE = new ConverterStage() {
+        @Override
+        public String convert(String text) {
+            return new StringBuilder(text).reverse().toString();
+        }
+    };
+
+    private static final ConverterStage DOUBLE = new ConverterStage() {
+        @Override
+        public String convert(String text) {
+            return text + text;
+        }
+    };
+
+    private static ConverterStage append(final String tail) {
+        return new ConverterStage() {
+            @Override
+            public String convert(String text) {
+                return text + tail;
+            }
+        };
+    }
+
+    @Test
+    public void fusedMatchesStageByStage() {
+        ConverterStage[] pool = {UPPER, X_TO_5, ConversionPipeline.DIGITS, REVERSE, DOUBLE, append("x1")};
+        Random random = new Random(42);
+        for (int round = 0; round < 500; round++) {
+            ConversionPipeline.Builder builder = new ConversionPipeline.Builder();
+            List<ConverterStage> chain = new ArrayList<>();
+            StringBuilder prefix = new StringBuilder();
+            StringBuilder suffix = new StringBuilder();
+            for (int i = random.nextInt(7); i > 0; i--) {
+                switch (random.nextInt(8)) {
+                    case 0:
+                        builder.prefix("p" + i);
+                        prefix.append("p").append(i);
+                        break;
+                    case 1:
+                        builder.suffix("s" + i);
+                        suffix.append("s").append(i);
+                        break;
+                    default:
+                        ConverterStage stage = pool[random.nextInt(pool.length)];
+                        builder.stage(stage);
+                        chain.add(stage);
+                        break;
+                }
+            }
+            ConversionPipeline pipeline = builder.build();
+
+            String text = "ab" + random.nextInt(1000) + "x";
+            //unfused: every stage on its own, affixes around the result as is
+            String expected = text;
+            for (ConverterStage stage : chain) {
+                expected = stage.convert(expected);
+            }
+            expected = prefix + expected + suffix;
+            assertEquals(chain + " " + prefix + " " + suffix, expected, pipeline.convert(text));
+        }
+    }
+
+    @Test
+    public void runsStagesInOrder() {
+        ConversionPipeline pipeline = new ConversionPipeline.Builder()
+                .stage(append("x"))
+                .stage(UPPER)
+                .stage(X_TO_5)
+                .stage(append("y"))
+                .stage(REVERSE)
+                .digits()
+                .build();
+        assertEquals("y৫৩২১", pipeline.convert("123"));
+
+        //the char stage before the whole text stage doesn't see its output
+        pipeline = new ConversionPipeline.Builder().stage(UPPER).stage(append("x")).build();
+        assertEquals("ABx", pipeline.convert("ab"));
+    }
+
+    @Test
+    public void affixesFollowCallOrder() {
+        ConversionPipeline pipeline = new ConversionPipeline.Builder()
+                .prefix("a")
+                .prefix("b")
+                .digits()
+                .suffix("1")
+                .suffix("2")
+                .build();
+        assertEquals("ab৪২12", pipeline.convert("42"));
+
+        //as is, also around whole text stages and ahead of char stages
+        pipeline = new ConversionPipeline.Builder().prefix("1").stage(REVERSE).suffix("2").stage(UPPER).build();
+        assertEquals("1BA2", pipeline.convert("ab"));
+        assertEquals("৳ ১২.৫০", new ConversionPipeline.Builder().prefix("৳ ").digits().build().convert("12.50"));
+    }
+
+    @Test
+    public void ordinalPipelinesMatchToBangla() {
+        ToBangla toBangla = ToBangla.getInstance();
+        ConversionPipeline date = ConversionPipelines.get(ProcessType.ORDINAL_INDICATOR_FOR_DATE);
+        ConversionPipeline order = ConversionPipelines.get(ProcessType.ORDINAL_INDICATOR_FOR_NUMERIC_ORDER);
+        for (int number = 0; number <= 40; number++) {
+            String text = number + "th";
+            assertEquals(toBangla.getOrdinalIndicator(text, ProcessType.ORDINAL_INDICATOR_FOR_DATE), date.convert(text));
+            assertEquals(toBangla.getOrdinalIndicator(text, ProcessType.ORDINAL_INDICATOR_FOR_NUMERIC_ORDER), order.convert(text));
+        }
+        assertEquals("২১শে", date.convert("21st"));
+        assertEquals("৩" + ToBangla.orderSuffix(3), order.convert("3rd"));
+        assertEquals("Wrong Format", date.convert("32"));
+    }
+}
@@ -0,0 +1,111 @@
+package com.al.tobangla.processor;
+
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DurationBufferTest {
+
+    private static final int MINUTE = 60;
+    private static final int HOUR = 60 * MINUTE;
+
+    /*
+    * @return duration written from scratch, without the in place rewrites of set
+    */
+    private static String expected(long seconds) {
+        long value = Math.max(0, seconds);
+        String minutesAndSeconds = String.format(Locale.US, "%02d:%02d", value / MINUTE % 60, value % 60);
+        String text = value >= HOUR ? value / HOUR + ":" + minutesAndSeconds : minutesAndSeconds;
+        return ToBangla.getInstance().getNumber(text);
+    }
+
+    private static void assertTicks(DurationBuffer buffer, long from, long to) {
+        long step = from <= to ? 1 : -1;
+        for (long seconds = from; seconds != to + step; seconds += step) {
+            buffer.set(seconds);
+            assertEquals(from + " to " + seconds, expected(seconds), buffer.toString());
+        }
+    }
+
+    @Test
+    public void formatsMinutesAndHours() {
+        assertEquals("০০:০০", DurationBuffer.format(0));
+        assertEquals("০৪:৫৯", DurationBuffer.format(299));
+        assertEquals("৫৯:৫৯", DurationBuffer.format(HOUR - 1));
+        assertEquals("১:০০:০০", DurationBuffer.format(HOUR));
+        assertEquals("১০:০০:০০", DurationBuffer.format(10 * HOUR));
+        assertEquals("০০:০০", DurationBuffer.format(-5));
+        assertEquals(expected(Long.MAX_VALUE), DurationBuffer.format(Long.MAX_VALUE));
+        assertTrue(DurationBuffer.format(Long.MAX_VALUE).length() <= DurationBuffer.MAX_LENGTH);
+    }
+
+    @Test
+    public void rewritesChangedFieldsWhenDigitCountChanges() {
+        DurationBuffer buffer = new DurationBuffer();
+        //১০:০০ to ০৯:৫৯, every field changes at once
+        assertTicks(buffer, 10 * MINUTE + 5, 9 * MINUTE + 50);
+        //the hours appear and disappear
+        assertTicks(buffer, HOUR - 3, HOUR + 3);
+        assertTicks(buffer, HOUR + 3, HOUR - 3);
+        //১০:০০:০০ to ৯:৫৯:৫৯, the hours lose a digit and the text gets shorter
+        assertTicks(buffer, 10 * HOUR + 2, 10 * HOUR - 2);
+        assertTicks(buffer, 100 * HOUR - 2, 100 * HOUR + 2);
+        assertTicks(buffer, 100 * HOUR + 2, 100 * HOUR - 2);
+        //down to zero and below
+        assertTicks(buffer, 3, -3);
+    }
+
+    @Test
+    public void rewritesChangedFieldsOnJumps() {
+        DurationBuffer buffer = new DurationBuffer();
+        char[] chars = buffer.getChars();
+        Random random = new Random(42);
+        long seconds = 0;
+        for (int i = 0; i < 100000; i++) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    seconds += random.nextBoolean() ? 1 : -1;
+                    break;
+                case 1:
+                    //whole minutes and hours keep the seconds field as it is
+                    seconds += (random.nextInt(5) - 2) * (random.nextBoolean() ? MINUTE : HOUR);
+                    break;
+                case 2:
+                    seconds = random.nextInt(200 * HOUR);
+                    break;
+                default:
+                    seconds = random.nextInt(2 * HOUR) - 10;
+                    break;
+            }
+            buffer.set(seconds);
+            assertEquals(String.valueOf(seconds), expected(seconds), buffer.toString());
+            assertEquals(Math.max(0, seconds), buffer.getSeconds());
+        }
+        assertSame(chars, buffer.getChars());
+    }
+
+    @Test
+    public void reportsWhetherTextChanged() {
+        DurationBuffer buffer = new DurationBuffer();
+        assertTrue(buffer.set(0));
+        assertFalse(buffer.set(0));
+        //negative durations show as zero, which is already shown
+        assertFalse(buffer.set(-1));
+        assertTrue(buffer.set(1));
+        assertFalse(buffer.set(1));
+    }
+
+    @Test
+    public void parsesSeconds() {
+        assertEquals(299, DurationBuffer.parseSeconds("299"));
+        assertEquals(299, DurationBuffer.parseSeconds(" ২৯৯ "));
+        assertEquals(0, DurationBuffer.parseSeconds("4:59"));
+        assertEquals(0, DurationBuffer.parseSeconds(""));
+    }
+}
@@ -0,0 +1,90 @@
+package com.al.tobangla.processor;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class MaskFormatterTest {
+
+    private static final MaskFormatter MOBILE = MaskFormatter.compile(MaskFormatter.DEFAULT_MASK);
+
+    @Test
+    public void fillsSlotsWithDigitsOfEitherScript() {
+        assertEquals("০১৭১২-৩৪৫৬৭৮", MOBILE.format("01712345678"));
+        assertEquals("০১৭১২-৩৪৫৬৭৮", MOBILE.format("01712 345678"));
+        assertEquals("০১৭১২-৩৪৫৬৭৮", MOBILE.format("০১৭১২-৩৪৫৬৭৮"));
+        assertEquals("০১৭১২-৩৪৫৬৭৮", MOBILE.format("+0171-২৩৪-56 78"));
+        assertEquals("০১৭১২-৩৪৫৬৭৮", MOBILE.getPipeline().convert("01712345678"));
+        assertEquals("০১৭১২-৩৪৫৬৭৮", MOBILE.convert("01712345678"));
+    }
+
+    @Test
+    public void stopsAfterLastFilledSlot() {
+        assertEquals("০১৭১", MOBILE.format("0171"));
+        assertEquals("০১৭১২", MOBILE.format("01712"));
+        assertEquals("০১৭১২-৩", MOBILE.format("017123"));
+        //digits beyond the last slot are ignored
+        assertEquals("০১৭১২-৩৪৫৬৭৮", MOBILE.format("0171234567899"));
+
+        MaskFormatter phone = MaskFormatter.compile("(###) ###");
+        assertEquals("(১২৩", phone.format("123"));
+        assertEquals("(১২৩) ৪", phone.format("1234"));
+    }
+
+    @Test
+    public void returnsTextWithoutDigitAsIs() {
+        assertEquals("abc", MOBILE.format("abc"));
+        assertEquals("", MOBILE.format(""));
+        char[] buffer = new char[MOBILE.getMaxLength()];
+        assertEquals(0, MOBILE.format("-", buffer, 0));
+    }
+
+    @Test
+    public void writesIntoBufferAtOffset() {
+        char[] buffer = new char[2 + MOBILE.getMaxLength()];
+        buffer[0] = '>';
+        buffer[1] = ' ';
+        int length = MOBILE.format("01712345678", buffer, 2);
+        assertEquals(MOBILE.getMaxLength(), length);
+        assertEquals("> ০১৭১২-৩৪৫৬৭৮", new String(buffer, 0, 2 + length));
+    }
+
+    @Test
+    public void padsNumbersToSlotCount() {
+        MaskFormatter formatter = MaskFormatter.compile("##-##");
+        assertEquals(4, formatter.getSlotCount());
+        assertEquals(5, formatter.getMaxLength());
+        assertEquals("০০-৪২", formatter.format(42));
+        assertEquals("০০-০০", formatter.format(0));
+        //leading digits beyond the slots are dropped
+        assertEquals("৩৪-৫৬", formatter.format(123456));
+        assertEquals("০১৭১২-৩৪৫৬৭৮", MOBILE.format(1712345678L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegativeNumber() {
+        MOBILE.format(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMaskWithoutSlot() {
+        MaskFormatter.compile("--");
+    }
+
+    @Test
+    public void cachesCompiledMasksUntilFull() {
+        MaskFormatter formatter = MaskFormatter.compile("#.#.#");
+        assertSame(formatter, MaskFormatter.compile("#.#.#"));
+        assertEquals("#.#.#", formatter.getMask());
+
+        //the cache is emptied once full, so enough other masks push it out
+        for (int i = 0; i < 64; i++) {
+            MaskFormatter.compile("#" + i);
+        }
+        MaskFormatter recompiled = MaskFormatter.compile("#.#.#");
+        assertNotSame(formatter, recompiled);
+        assertEquals(formatter.format("123"), recompiled.format("123"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.al.tobangla.processor;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MonthGridTest {
+
+    @Test
+    public void placesDaysUnderTheirWeekday() {
+        for (int year = 1900; year <= 2100; year += 7) {
+            for (int month = 1; month <= 12; month++) {
+                for (int firstDayOfWeek = MonthGrid.SUNDAY; firstDayOfWeek <= MonthGrid.SATURDAY; firstDayOfWeek += 3) {
+                    assertGrid(year, month, firstDayOfWeek);
+                }
+            }
+        }
+    }
+
+    private static void assertGrid(int year, int month, int firstDayOfWeek) {
+        MonthGrid grid = MonthGrid.of(year, month, firstDayOfWeek, false);
+        GregorianCalendar calendar = new GregorianCalendar(year, month - 1, 1);
+        int length = calendar.getActualMaximum(Calendar.DAY_OF_MONTH);
+        int expectedDay = 1;
+        for (int row = 0; row < MonthGrid.ROWS; row++) {
+            for (int column = 0; column < MonthGrid.COLUMNS; column++) {
+                int day = grid.getDayOfMonth(row, column);
+                if (day == 0) {
+                    assertNull(grid.getLabel(row, column));
+                    continue;
+                }
+                String cell = year + "-" + month + " " + row + "," + column;
+                assertEquals(cell, expectedDay++, day);
+                calendar.set(Calendar.DAY_OF_MONTH, day);
+                int weekday = calendar.get(Calendar.DAY_OF_WEEK) - Calendar.SUNDAY;
+                assertEquals(cell, weekday, (firstDayOfWeek + column) % MonthGrid.COLUMNS);
+                assertEquals(cell, ToBangla.getInstance().getNumber(String.valueOf(day)), grid.getLabel(row, column));
+            }
+        }
+        assertEquals(year + "-" + month, length + 1, expectedDay);
+    }
+
+    @Test
+    public void rendersTitleWeekdaysAndOrdinals() {
+        //January 2018 starts on a Monday
+        MonthGrid grid = MonthGrid.of(2018, 1);
+        assertEquals("জানুয়ারী, ২০১৮", grid.getTitle());
+        assertEquals(ToBangla.DAYS[0], grid.getWeekday(0));
+        assertEquals(0, grid.getDayOfMonth(0, 0));
+        assertEquals("১", grid.getLabel(0, 1));
+
+        MonthGrid mondayFirst = MonthGrid.of(2018, 1, 1, true);
+        assertEquals(ToBangla.DAYS[1], mondayFirst.getWeekday(0));
+        assertEquals(ToBangla.DAYS[0], mondayFirst.getWeekday(6));
+        assertEquals(ToBangla.getInstance().getNumericCalendarIndicator("1"), mondayFirst.getLabel(0, 0));
+        assertEquals(ToBangla.getInstance().getNumericCalendarIndicator("21"), mondayFirst.getLabel(2, 6));
+    }
+
+    @Test
+    public void cachesRecentGrids() {
+        MonthGrid grid = MonthGrid.of(1999, 3);
+        assertSame(grid, MonthGrid.of(1999, 3));
+        assertNotSame(grid, MonthGrid.of(1999, 3, MonthGrid.SUNDAY, true));
+
+        //twelve other grids push it out
+        for (int month = 1; month <= 12; month++) {
+            MonthGrid.of(1998, month);
+        }
+        MonthGrid rebuilt = MonthGrid.of(1999, 3);
+        assertNotSame(grid, rebuilt);
+        assertEquals(grid.getTitle(), rebuilt.getTitle());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidMonth() {
+        MonthGrid.of(2018, 13);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidFirstDayOfWeek() {
+        MonthGrid.of(2018, 1, 7, false);
+    }
+}
@@ -0,0 +1,55 @@
+package com.al.tobangla.processor;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class PhoneticTransliteratorTest {
+
+    private static final PhoneticTransliterator TRANSLITERATOR = PhoneticTransliterator.getInstance();
+
+    private static void assertTransliterated(String expected, String text) {
+        assertEquals(text, expected, TRANSLITERATOR.transliterate(text));
+    }
+
+    @Test
+    public void inherentVowelWritesNothingAfterConsonant() {
+        assertTransliterated("শুভ", "shubho");
+        assertTransliterated("ভাল", "bhalo");
+        assertTransliterated("কর", "kor");
+        assertTransliterated("বন্ধু", "bondhu");
+        assertTransliterated("স্বাগত", "swagoto");
+
+        //written out at the start of a syllable, "O" is always ও / ো
+        assertTransliterated("অ", "o");
+        assertTransliterated("অমর", "omor");
+        assertTransliterated("ভালো", "bhalO");
+        assertTransliterated("আমার সোনার বাংলা", "amar sOnar bangla");
+    }
+
+    @Test
+    public void matchesLongestRuleFirst() {
+        assertTransliterated("কৈ", "koi");
+        assertTransliterated("ঐ", "oi");
+        assertTransliterated("কূল", "kool");
+        assertTransliterated("ছবি", "chhobi");
+        assertTransliterated("রাস্তা", "rasta");
+        assertTransliterated("বাড়ি", "baRi");
+    }
+
+    @Test
+    public void copiesTextWithoutRule() {
+        assertTransliterated("হি! ২০১৮", "hi! 2018");
+        //upper case without a rule of its own follows the lower case rule
+        assertTransliterated("কবে", "Kobe");
+        assertTransliterated("আমি", "Ami");
+        assertTransliterated("", "");
+    }
+
+    @Test
+    public void appendsToBuilder() {
+        StringBuilder out = new StringBuilder("> ");
+        TRANSLITERATOR.transliterate("ami", out);
+        assertEquals("> আমি", out.toString());
+    }
+}
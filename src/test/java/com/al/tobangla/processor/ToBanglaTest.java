@@ -0,0 +1,110 @@
+package com.al.tobangla.processor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+public class ToBanglaTest {
+
+    //2018-01-21T06:00:00Z, 12:00 in Dhaka
+    private static final long MILLIS = 1516514400000L;
+
+    private TimeZone defaultZone;
+
+    @Before
+    public void saveZone() {
+        defaultZone = TimeZone.getDefault();
+    }
+
+    @After
+    public void restoreZone() {
+        TimeZone.setDefault(defaultZone);
+        ToBangla.getInstance().refreshTimeZone();
+    }
+
+    private static void setZone(String id) {
+        TimeZone.setDefault(TimeZone.getTimeZone(id));
+        ToBangla.getInstance().refreshTimeZone();
+    }
+
+    @Test
+    public void dateTimeFollowsDefaultZoneChange() {
+        ToBangla toBangla = ToBangla.getInstance();
+
+        setZone("UTC");
+        assertEquals("২১/০১/২০১৮ ০৬:০০:০০", toBangla.getDateTime(MILLIS));
+
+        setZone("Asia/Dhaka");
+        assertEquals("২১/০১/২০১৮ ১২:০০:০০", toBangla.getDateTime(MILLIS));
+        assertEquals("১২:০০:০০", toBangla.getTime(MILLIS));
+    }
+
+    @Test
+    public void dateFollowsDefaultZoneChange() {
+        ToBangla toBangla = ToBangla.getInstance();
+        //2018-01-21T20:00:00Z, already the 22nd in Dhaka
+        long evening = MILLIS + 14 * 60 * 60 * 1000L;
+
+        setZone("UTC");
+        assertEquals("২১/০১/২০১৮", toBangla.getDate(evening));
+
+        setZone("Asia/Dhaka");
+        assertEquals("২২/০১/২০১৮", toBangla.getDate(evening));
+        assertEquals("২২/০১/২০১৮ ০২:০০:০০", toBangla.getDateTime(evening));
+    }
+
+    @Test
+    public void zoneIsKeptUntilRefreshed() {
+        ToBangla toBangla = ToBangla.getInstance();
+        setZone("UTC");
+
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Dhaka"));
+        assertEquals("২১/০১/২০১৮ ০৬:০০:০০", toBangla.getDateTime(MILLIS));
+
+        toBangla.refreshTimeZone();
+        assertEquals("২১/০১/২০১৮ ১২:০০:০০", toBangla.getDateTime(MILLIS));
+    }
+
+    @Test
+    public void dateTimeBeforeEpoch() {
+        setZone("UTC");
+        assertEquals("৩১/১২/১৯৬৯ ২৩:৫৯:৫৯", ToBangla.getInstance().getDateTime(-1000));
+    }
+
+    @Test
+    public void monthAndDayNamesComeFromTheSharedArrays() {
+        ToBangla toBangla = ToBangla.getInstance();
+        String[] months = {"january", "february", "march", "april", "may", "june", "july", "august",
+                "september", "october", "november", "december"};
+        for (int i = 0; i < months.length; i++) {
+            assertEquals(ToBangla.MONTHS[i], toBangla.getMonth(months[i]));
+            assertEquals(ToBangla.MONTHS[i], toBangla.getMonth(" " + months[i].substring(0, 3).toUpperCase(Locale.US)));
+            assertEquals(ToBangla.MONTHS[i], toBangla.getMonthByNumber(Integer.toString(i + 1)));
+        }
+        assertEquals("Wrong Format", toBangla.getMonth("sept"));
+
+        String[] days = {"Sunday", "Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday"};
+        for (int i = 0; i < days.length; i++) {
+            assertEquals(ToBangla.DAYS[i], toBangla.getDay(days[i]));
+        }
+        assertEquals("sun", toBangla.getDay("sun"));
+    }
+
+    @Test
+    public void namesIgnoreDefaultLocale() {
+        Locale locale = Locale.getDefault();
+        try {
+            //dotless i of the turkish locale
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertEquals(ToBangla.MONTHS[3], ToBangla.getInstance().getMonth("APRIL"));
+            assertEquals(ToBangla.DAYS[5], ToBangla.getInstance().getDay("FRIDAY"));
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+}
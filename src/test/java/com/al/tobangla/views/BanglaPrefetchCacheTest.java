@@ -0,0 +1,175 @@
+package com.al.tobangla.views;
+
+import com.al.tobangla.processor.ConversionPipeline;
+import com.al.tobangla.processor.DigitScript;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Scrolls a list over the cache the way RecyclerView binds rows, one position after the
+ * other, and counts how often each row's text is read from the source.
+ */
+public class BanglaPrefetchCacheTest {
+
+    private static final int COUNT = 200;
+    private static final int PAGE_SIZE = 10;
+    private static final ConversionPipeline PIPELINE = new ConversionPipeline.Builder().prefix("#").digits().build();
+
+    private static final class CountingSource implements BanglaPrefetchCache.Source {
+        final AtomicIntegerArray reads = new AtomicIntegerArray(COUNT);
+        volatile int version;
+
+        @Override
+        public int getCount() {
+            return COUNT;
+        }
+
+        @Override
+        public String getText(int position) {
+            if (position >= 0) {
+                reads.incrementAndGet(position);
+            }
+            return version + "" + position;
+        }
+
+        int reads(int position) {
+            return reads.get(position);
+        }
+    }
+
+    private static String expected(int version, int position) {
+        return "#" + DigitScript.BANGLA.convert(version + "" + position);
+    }
+
+    /*
+    * Waits for the batches queued so far, the one background thread runs them in order, so
+    * a batch of another cache queued now runs after them
+    */
+    private static void drain() throws InterruptedException {
+        final CountDownLatch done = new CountDownLatch(1);
+        BanglaPrefetchCache marker = new BanglaPrefetchCache(new BanglaPrefetchCache.Source() {
+            @Override
+            public int getCount() {
+                return 2;
+            }
+
+            @Override
+            public String getText(int position) {
+                done.countDown();
+                return "";
+            }
+        }, PIPELINE, 1);
+        marker.onBind(0);
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+    }
+
+    private static void bind(BanglaPrefetchCache cache, CountingSource source, int position) throws InterruptedException {
+        cache.onBind(position);
+        assertEquals(String.valueOf(position), expected(source.version, position), cache.get(position));
+        drain();
+    }
+
+    @Test
+    public void forwardFlingConvertsEveryRowOnce() throws InterruptedException {
+        CountingSource source = new CountingSource();
+        BanglaPrefetchCache cache = new BanglaPrefetchCache(source, PIPELINE, PAGE_SIZE);
+        for (int position = 0; position < COUNT; position++) {
+            bind(cache, source, position);
+        }
+        for (int position = 0; position < COUNT; position++) {
+            assertEquals(String.valueOf(position), 1, source.reads(position));
+        }
+    }
+
+    @Test
+    public void backwardFlingPrefetchesRowsAbove() throws InterruptedException {
+        CountingSource source = new CountingSource();
+        BanglaPrefetchCache cache = new BanglaPrefetchCache(source, PIPELINE, PAGE_SIZE);
+        //jump to the end, then scroll back up to the top
+        for (int position = COUNT - 1; position >= 0; position--) {
+            bind(cache, source, position);
+        }
+        for (int position = 0; position < COUNT; position++) {
+            assertEquals(String.valueOf(position), 1, source.reads(position));
+        }
+    }
+
+    @Test
+    public void evictsRowsOutsideTheWindow() throws InterruptedException {
+        CountingSource source = new CountingSource();
+        BanglaPrefetchCache cache = new BanglaPrefetchCache(source, PIPELINE, PAGE_SIZE);
+        for (int position = 0; position < 100; position++) {
+            bind(cache, source, position);
+        }
+
+        //the last rows are still in the window of 4 pages
+        for (int position = 99 - PAGE_SIZE * 2; position < 100; position++) {
+            assertEquals(expected(0, position), cache.get(position));
+            assertEquals(String.valueOf(position), 1, source.reads(position));
+        }
+        //the top rows share their slots with later rows and are converted again
+        for (int position = 0; position < PAGE_SIZE; position++) {
+            assertEquals(expected(0, position), cache.get(position));
+            assertEquals(String.valueOf(position), 2, source.reads(position));
+        }
+    }
+
+    @Test
+    public void shortFlingBackStaysInTheWindow() throws InterruptedException {
+        CountingSource source = new CountingSource();
+        BanglaPrefetchCache cache = new BanglaPrefetchCache(source, PIPELINE, PAGE_SIZE);
+        for (int position = 0; position <= 50; position++) {
+            bind(cache, source, position);
+        }
+        //the rows just scrolled past are still cached
+        for (int position = 50; position >= 30; position--) {
+            bind(cache, source, position);
+        }
+        for (int position = 30; position <= 50; position++) {
+            assertEquals(String.valueOf(position), 1, source.reads(position));
+        }
+        //and forward again, every text is right whatever was evicted in between
+        for (int position = 30; position < COUNT; position++) {
+            bind(cache, source, position);
+        }
+        for (int position = 0; position < COUNT; position++) {
+            assertTrue(String.valueOf(position), source.reads(position) <= 2);
+        }
+    }
+
+    @Test
+    public void invalidateDropsEveryRow() throws InterruptedException {
+        CountingSource source = new CountingSource();
+        BanglaPrefetchCache cache = new BanglaPrefetchCache(source, PIPELINE, PAGE_SIZE);
+        for (int position = 0; position < 20; position++) {
+            bind(cache, source, position);
+        }
+        source.version = 1;
+        cache.invalidate();
+        for (int position = 0; position < 20; position++) {
+            bind(cache, source, position);
+        }
+    }
+
+    @Test
+    public void noPositionIsAMiss() throws InterruptedException {
+        CountingSource source = new CountingSource();
+        BanglaPrefetchCache cache = new BanglaPrefetchCache(source, PIPELINE, PAGE_SIZE);
+        //RecyclerView.NO_POSITION
+        cache.onBind(-1);
+        assertEquals(expected(0, -1), cache.get(-1));
+        assertEquals(expected(0, -1), cache.get(-1));
+        drain();
+        for (int position = 0; position < COUNT; position++) {
+            assertEquals(0, source.reads(position));
+        }
+        assertEquals(expected(0, Integer.MIN_VALUE), cache.get(Integer.MIN_VALUE));
+    }
+}
@@ -0,0 +1,180 @@
+package com.al.tobangla.views;
+
+import android.content.Context;
+import android.util.AttributeSet;
+
+import com.al.tobangla.R;
+import com.al.tobangla.processor.ConversionPipeline;
+import com.al.tobangla.processor.ConversionPipelines;
+import com.al.tobangla.processor.MaskFormatter;
+import com.al.tobangla.utils.ProcessType;
+
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Inflate, first bind and rebind of 1k BanglaTextViews per ProcessType, reporting the time
+ * and the bytes allocated per view on the test thread. Numbers are JVM numbers, good for
+ * comparing changes to the view layer against each other, not for device timings.
+ * <p>
+ * Skipped unless asked for, ./gradlew test -Pbenchmark runs it and writes the table to
+ * build/reports/benchmarks/BanglaTextView.txt.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 22)
+public class BanglaTextViewBenchmarkTest {
+
+    //set by build.gradle
+    private static final String ENABLED_PROPERTY = "tobangla.benchmark";
+    private static final String REPORT_PROPERTY = "tobangla.benchmark.report";
+
+    private static final int VIEWS = 1000;
+    //rounds run and thrown away before the measured one
+    private static final int WARMUP = 2;
+
+    //processType enum names of attrs.xml, indexed by value - 1
+    private static final String[] ATTR_NAMES = {
+            "Date", "Number", "Time", "Amount", "OrdinalIndicatorForDate", "OrdinalIndicatorForNumeric",
+            "OrdinalIndicatorToday", "Today", "TimeNow", "NowDateTime", "Compact", "Countdown", "Stopwatch", "Mask"
+    };
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /*
+    * @return EN-US text a view of the process type would be given
+    */
+    private static String sample(ProcessType processType) {
+        switch (processType) {
+            case DATE:
+                return "21/01/2018";
+            case TIME:
+                return "12:30:45";
+            case AMOUNT:
+                return "1234.50";
+            case ORDINAL_INDICATOR_FOR_DATE:
+            case ORDINAL_INDICATOR_FOR_NUMERIC_ORDER:
+                return "21";
+            case COMPACT:
+                return "1234567";
+            case COUNTDOWN:
+            case STOPWATCH:
+                return "299";
+            case MASK:
+                return "01712345678";
+            default:
+                return "1234567";
+        }
+    }
+
+    private static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    @Test
+    public void inflateAndBindEveryProcessType() throws FileNotFoundException {
+        Assume.assumeTrue(Boolean.getBoolean(ENABLED_PROPERTY));
+        Context context = RuntimeEnvironment.application;
+
+        File report = new File(System.getProperty(REPORT_PROPERTY, "BanglaTextView.txt"));
+        report.getAbsoluteFile().getParentFile().mkdirs();
+        PrintWriter out = new PrintWriter(report);
+        try {
+            out.println(String.format(Locale.US, "%-36s %14s %14s %14s %14s %14s %14s",
+                    "per view", "inflate ns", "inflate B", "first bind ns", "first bind B", "rebind ns", "rebind B"));
+            for (ProcessType processType : ProcessType.values()) {
+                Result result = null;
+                for (int round = 0; round <= WARMUP; round++) {
+                    result = run(context, processType);
+                }
+                out.println(String.format(Locale.US, "%-36s %14d %14d %14d %14d %14d %14d",
+                        processType,
+                        result.inflateNanos / VIEWS, result.inflateBytes / VIEWS,
+                        result.firstBindNanos / VIEWS, result.firstBindBytes / VIEWS,
+                        result.rebindNanos / VIEWS, result.rebindBytes / VIEWS));
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    private static Result run(Context context, ProcessType processType) {
+        final String text = sample(processType);
+        AttributeSet attrs = Robolectric.buildAttributeSet()
+                .addAttribute(android.R.attr.text, text)
+                .addAttribute(R.attr.processType, ATTR_NAMES[processType.getValue() - 1])
+                .build();
+        ConversionPipeline pipeline = processType == ProcessType.MASK
+                ? MaskFormatter.compile(MaskFormatter.DEFAULT_MASK).getPipeline()
+                : ConversionPipelines.get(processType);
+        //the cache holds 4 pages, so every position stays cached for the rebind
+        BanglaPrefetchCache cache = new BanglaPrefetchCache(new BanglaPrefetchCache.Source() {
+            @Override
+            public int getCount() {
+                return VIEWS;
+            }
+
+            @Override
+            public String getText(int position) {
+                return text;
+            }
+        }, pipeline, VIEWS / 4);
+
+        Result result = new Result();
+        BanglaTextView[] views = new BanglaTextView[VIEWS];
+
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < VIEWS; i++) {
+            views[i] = new BanglaTextView(context, attrs);
+        }
+        result.inflateNanos = System.nanoTime() - start;
+        result.inflateBytes = allocatedBytes() - bytes;
+
+        bytes = allocatedBytes();
+        start = System.nanoTime();
+        for (int i = 0; i < VIEWS; i++) {
+            views[i].bind(cache, i);
+        }
+        result.firstBindNanos = System.nanoTime() - start;
+        result.firstBindBytes = allocatedBytes() - bytes;
+
+        bytes = allocatedBytes();
+        start = System.nanoTime();
+        for (int i = 0; i < VIEWS; i++) {
+            views[i].bind(cache, i);
+        }
+        result.rebindNanos = System.nanoTime() - start;
+        result.rebindBytes = allocatedBytes() - bytes;
+
+        //outside the measured loops, every view shows the converted text
+        String expected = pipeline.convert(text);
+        for (int i = 0; i < VIEWS; i++) {
+            assertEquals(processType + " " + i, expected, views[i].getText().toString());
+        }
+        assertEquals(processType, views[0].getProcessType());
+        return result;
+    }
+
+    private static final class Result {
+        long inflateNanos;
+        long inflateBytes;
+        long firstBindNanos;
+        long firstBindBytes;
+        long rebindNanos;
+        long rebindBytes;
+    }
+}
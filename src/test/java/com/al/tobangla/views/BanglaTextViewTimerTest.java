@@ -0,0 +1,143 @@
+package com.al.tobangla.views;
+
+import android.app.Activity;
+import android.widget.FrameLayout;
+
+import com.al.tobangla.processor.ConversionPipelines;
+import com.al.tobangla.utils.ProcessType;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * COUNTDOWN and STOPWATCH ticking against Robolectric's main looper, whose scheduler
+ * drives SystemClock as well.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 22)
+public class BanglaTextViewTimerTest {
+
+    private FrameLayout parent;
+
+    @Before
+    public void setUp() {
+        Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+        parent = new FrameLayout(activity);
+        activity.setContentView(parent);
+    }
+
+    private BanglaTextView attachedTimer(ProcessType processType) {
+        BanglaTextView view = new BanglaTextView(parent.getContext());
+        view.setProcessType(processType);
+        parent.addView(view);
+        return view;
+    }
+
+    private static void advance(long millis) {
+        ShadowLooper.idleMainLooper(millis, TimeUnit.MILLISECONDS);
+    }
+
+    private static String text(BanglaTextView view) {
+        return view.getText().toString();
+    }
+
+    @Test
+    public void countdownTicksEverySecondAndStopsAtZero() {
+        BanglaTextView view = attachedTimer(ProcessType.COUNTDOWN);
+        view.startTimer(3000);
+        assertEquals("০০:০৩", text(view));
+
+        advance(999);
+        assertEquals("০০:০৩", text(view));
+        advance(1);
+        assertEquals("০০:০২", text(view));
+        advance(2000);
+        assertEquals("০০:০০", text(view));
+        assertFalse(view.isTimerRunning());
+
+        advance(5000);
+        assertEquals("০০:০০", text(view));
+    }
+
+    @Test
+    public void stopwatchCountsUpFromStart() {
+        BanglaTextView view = attachedTimer(ProcessType.STOPWATCH);
+        view.startTimer(59000);
+        assertEquals("০০:৫৯", text(view));
+
+        advance(1000);
+        assertEquals("০১:০০", text(view));
+        advance(60 * 60 * 1000);
+        assertEquals("১:০১:০০", text(view));
+        assertTrue(view.isTimerRunning());
+    }
+
+    @Test
+    public void stopTimerCancelsPendingTick() {
+        BanglaTextView view = attachedTimer(ProcessType.COUNTDOWN);
+        view.startTimer(10000);
+        advance(1000);
+        assertEquals("০০:০৯", text(view));
+
+        view.stopTimer();
+        advance(3000);
+        assertEquals("০০:০৯", text(view));
+        assertFalse(view.isTimerRunning());
+
+        //a restart replaces the schedule instead of adding a second one
+        view.startTimer(10000);
+        view.startTimer(5000);
+        advance(1000);
+        assertEquals("০০:০৪", text(view));
+    }
+
+    @Test
+    public void detachedViewCatchesUpWhenAttached() {
+        BanglaTextView view = attachedTimer(ProcessType.COUNTDOWN);
+        view.startTimer(10000);
+
+        parent.removeView(view);
+        advance(4000);
+        assertEquals("০০:১০", text(view));
+        assertTrue(view.isTimerRunning());
+
+        parent.addView(view);
+        assertEquals("০০:০৬", text(view));
+        advance(1000);
+        assertEquals("০০:০৫", text(view));
+    }
+
+    @Test
+    public void bindStopsTicker() {
+        BanglaTextView view = attachedTimer(ProcessType.COUNTDOWN);
+        view.startTimer(10000);
+
+        BanglaPrefetchCache cache = new BanglaPrefetchCache(new BanglaPrefetchCache.Source() {
+            @Override
+            public int getCount() {
+                return 1;
+            }
+
+            @Override
+            public String getText(int position) {
+                return "120";
+            }
+        }, ConversionPipelines.get(ProcessType.AMOUNT), 4);
+        view.bind(cache, 0);
+        assertFalse(view.isTimerRunning());
+
+        advance(3000);
+        assertEquals("৳ ১২০", text(view));
+    }
+}